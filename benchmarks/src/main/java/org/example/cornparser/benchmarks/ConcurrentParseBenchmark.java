@@ -0,0 +1,48 @@
+package org.example.cornparser.benchmarks;
+
+import org.example.cornparser.concurrency.BulkParseResult;
+import org.example.cornparser.concurrency.ConcurrentCronParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk parsing throughput of {@link ConcurrentCronParser} at several pool sizes. Scores are expressions per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentParseBenchmark {
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ConcurrentCronParser parser;
+    private List<String> batch;
+
+    @Setup
+    public void setUp() {
+        parser = ConcurrentCronParser.builder().threads(threads).build();
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(Expressions.MIX[i % Expressions.MIX.length]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        parser.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BulkParseResult parseAll() throws Exception {
+        return parser.parseAll(batch).get();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.cornparser.benchmarks;
+
+import org.example.cornparser.parser.CronFieldParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expansion of validated fields into bitmasks and into list views. Scores are per expression (five fields).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpandBenchmark {
+    private final CronFieldParser[] fieldParsers = {
+            new CronFieldParser(0, 59),
+            new CronFieldParser(0, 23),
+            new CronFieldParser(1, 31),
+            new CronFieldParser(1, 12),
+            new CronFieldParser(0, 6),
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void expandBits(Blackhole blackhole) {
+        for (String[] fields : Expressions.FIELDS) {
+            for (int field = 0; field < fieldParsers.length; field++) {
+                blackhole.consume(fieldParsers[field].parseBits(fields[field]));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void expandLists(Blackhole blackhole) {
+        for (String[] fields : Expressions.FIELDS) {
+            for (int field = 0; field < fieldParsers.length; field++) {
+                blackhole.consume(fieldParsers[field].parse(fields[field]).size());
+            }
+        }
+    }
+}
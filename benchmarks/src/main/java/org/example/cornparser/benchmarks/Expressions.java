@@ -0,0 +1,39 @@
+package org.example.cornparser.benchmarks;
+
+/**
+ * Realistic mix of crontab lines shared by the benchmarks: wildcards, single values, ranges, steps and lists.
+ */
+final class Expressions {
+    static final String[] MIX = {
+            "* * * * * /usr/bin/heartbeat",
+            "*/5 * * * * /usr/bin/poll",
+            "0 * * * * /usr/bin/hourly",
+            "30 2 * * * /usr/bin/nightly-backup",
+            "0 0 * * 0 /usr/bin/weekly-report",
+            "0 0 1 * * /usr/bin/monthly-invoice",
+            "*/15 0 1,15 * 1-5 /usr/bin/find",
+            "0 9-17 * * 1-5 /usr/bin/office-hours",
+            "5,20,35,50 * * * * /usr/bin/quarter-past",
+            "0 */2 * * * /usr/bin/every-two-hours",
+            "45 23 28 2 * /usr/bin/end-of-february",
+            "0 0,12 * * * /usr/bin/twice-daily",
+            "15 3 * 1,4,7,10 * /usr/bin/quarterly",
+            "0 6 1-7 * 1 /usr/bin/first-week-or-monday",
+            "10-50 8 * * 6 /usr/bin/saturday-window",
+            "0 4 */3 * * /usr/bin/every-third-day",
+    };
+
+    /**
+     * Schedule fields of {@link #MIX}, split for benchmarking validation and expansion on their own.
+     */
+    static final String[][] FIELDS = new String[MIX.length][];
+
+    static {
+        for (int i = 0; i < MIX.length; i++) {
+            FIELDS[i] = MIX[i].split(" ", 6);
+        }
+    }
+
+    private Expressions() {
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.cornparser.benchmarks;
+
+import org.example.cornparser.index.ScheduleIndex;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.example.cornparser.time.CronMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching paths: next fire time and compiled matching per expression, and the due-set query over a catalog of
+ * 100,000 jobs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchBenchmark {
+    private static final int CATALOG_SIZE = 100_000;
+    private static final long FROM = 1_718_000_000_000L;  // June 2024
+
+    private final ZoneId zone = ZoneId.of("America/New_York");
+    private CronExpression[] expressions;
+    private CronMatcher[] matchers;
+    private ScheduleIndex index;
+    private LocalDateTime minute;
+
+    @Setup
+    public void setUp() {
+        SinglePassCronParser parser = new SinglePassCronParser();
+        expressions = new CronExpression[Expressions.MIX.length];
+        for (int i = 0; i < expressions.length; i++) {
+            expressions[i] = parser.parse(Expressions.MIX[i]);
+        }
+        matchers = new CronMatcher[expressions.length];
+        for (int i = 0; i < matchers.length; i++) {
+            matchers[i] = CronMatcher.of(expressions[i], zone);
+        }
+        index = new ScheduleIndex(CATALOG_SIZE);
+        for (int id = 0; id < CATALOG_SIZE; id++) {
+            index.add(id, expressions[id % expressions.length]);
+        }
+        minute = LocalDateTime.of(2024, 6, 3, 9, 0);  // A Monday morning, when many of the mix are due
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void nextExecution(Blackhole blackhole) {
+        for (CronExpression expression : expressions) {
+            blackhole.consume(expression.nextExecution(FROM, zone));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void compiledMatch(Blackhole blackhole) {
+        for (CronMatcher matcher : matchers) {
+            blackhole.consume(matcher.matches(FROM));
+        }
+    }
+
+    @Benchmark
+    public int dueSet() {
+        int[] count = new int[1];
+        index.forEachDue(minute, id -> count[0]++);
+        return count[0];
+    }
+}
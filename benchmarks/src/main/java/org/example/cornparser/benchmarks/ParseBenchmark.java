@@ -0,0 +1,52 @@
+package org.example.cornparser.benchmarks;
+
+import org.example.cornparser.parser.CachingCronParser;
+import org.example.cornparser.parser.CronParser;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded parsing of whole crontab lines across the expression mix, per parser implementation.
+ * Scores are per expression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+    @Param({"default", "single-pass", "caching"})
+    public String parser;
+
+    private CronParser cronParser;
+
+    @Setup
+    public void setUp() {
+        switch (parser) {
+            case "default":
+                cronParser = new DefaultCronParser();
+                break;
+            case "single-pass":
+                cronParser = new SinglePassCronParser();
+                break;
+            case "caching":
+                cronParser = new CachingCronParser();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown parser: " + parser);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void parse(Blackhole blackhole) {
+        for (String line : Expressions.MIX) {
+            blackhole.consume(cronParser.parse(line));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.cornparser.benchmarks;
+
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.example.cornparser.validation.CronValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of the five schedule fields on its own, without building bitmasks, per field with exceptions and
+ * over the whole expression with result codes. Scores are per expression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidateBenchmark {
+    private final SinglePassCronParser parser = new SinglePassCronParser();
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void validate(Blackhole blackhole) {
+        for (String[] fields : Expressions.FIELDS) {
+            blackhole.consume(isValid(fields[0], 0, 59, "minute"));
+            blackhole.consume(isValid(fields[1], 0, 23, "hour"));
+            blackhole.consume(isValid(fields[2], 1, 31, "day of month"));
+            blackhole.consume(isValid(fields[3], 1, 12, "month"));
+            blackhole.consume(isValid(fields[4], 0, 7, "day of week"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public int validateExpression() {
+        int valid = 0;
+        for (String expression : Expressions.MIX) {
+            valid += parser.validate(expression).isValid() ? 1 : 0;
+        }
+        return valid;
+    }
+
+    /**
+     * Turns the validator's outcome into a value, so the work behind it cannot be eliminated as unused.
+     */
+    private static boolean isValid(String field, int min, int max, String fieldName) {
+        try {
+            CronValidator.validateCronField(field, min, max, fieldName);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.cornparser.catalog;
+
+import lombok.Data;
+import org.example.cornparser.io.LineError;
+import org.example.cornparser.model.CronExpression;
+
+import java.util.List;
+
+/**
+ * The difference one reload applied to a {@link CronCatalog}: the expressions added and removed between two
+ * snapshots, and the changed lines that failed to parse. A changed line shows up as one removal and one addition.
+ */
+@Data
+public class CatalogChange {
+    private final CronCatalog.Snapshot previous;
+    private final CronCatalog.Snapshot current;
+    private final List<CronExpression> added;
+    private final List<CronExpression> removed;
+    private final List<LineError> errors;
+
+    /**
+     * @return Whether the reload added or removed any expression.
+     */
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty();
+    }
+}
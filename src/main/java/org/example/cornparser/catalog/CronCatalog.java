@@ -0,0 +1,433 @@
+package org.example.cornparser.catalog;
+
+import org.example.cornparser.io.LineError;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.CronFieldParser;
+import org.example.cornparser.parser.CronParser;
+import org.example.cornparser.parser.SinglePassCronParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Live set of the cron expressions in a crontab file, reloaded incrementally.
+ * <p>
+ * Every line is identified by a 64-bit hash of its bytes, so a reload hashes the file but only decodes and parses
+ * the lines whose hash is new. An unchanged line costs one hash and one table lookup. Lines whose hash is gone are
+ * removed, and moving a line is not a change. Identical lines are separate jobs. Blank lines and lines starting
+ * with '#' are skipped, as in {@code CrontabFileLoader}.
+ * <p>
+ * The diff is applied to a copy of the current {@link Snapshot}, which is then published with a single volatile
+ * write. Readers never block and always see a complete snapshot. Reloads are serialized, and listeners are told
+ * about each change on the reloading thread after the new snapshot is published.
+ * <p>
+ * With 64-bit hashes, the chance that a changed line collides with another line of a 500,000-line file is
+ * below one in 10^13.
+ */
+public final class CronCatalog {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final CronParser parser;
+    private final List<Consumer<CatalogChange>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile Map<Long, LineError> failures = Collections.emptyMap();  // Bad lines of the file, by line key
+
+    /**
+     * Creates an empty catalog parsing with a {@link SinglePassCronParser}.
+     */
+    public CronCatalog() {
+        this(new SinglePassCronParser());
+    }
+
+    /**
+     * Creates an empty catalog.
+     *
+     * @param parser Parser for added and changed lines.
+     */
+    public CronCatalog(CronParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * @return The current snapshot, which never changes once published.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return The lines of the last reloaded file that failed to parse, in line order.
+     */
+    public List<LineError> getErrors() {
+        List<LineError> errors = new ArrayList<>(failures.values());
+        errors.sort(Comparator.comparingLong(LineError::getLineNumber));
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Registers a listener called after each reload that added or removed expressions.
+     *
+     * @param listener Receives the change on the reloading thread.
+     */
+    public void addListener(Consumer<CatalogChange> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener A listener previously registered.
+     * @return Whether the listener was registered.
+     */
+    public boolean removeListener(Consumer<CatalogChange> listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Brings the catalog in line with the given crontab file, parsing only lines that were added or changed
+     * since the previous reload. Bad lines are left out of the catalog. Each is reported in the change of the
+     * reload that added or changed it, and remembered like any other line, so it is not parsed or reported again
+     * while it stays unchanged; {@link #getErrors()} lists all of them.
+     * <p>
+     * If a listener throws, the new snapshot is already published and the remaining listeners are skipped.
+     *
+     * @param file The crontab file (UTF-8 or ASCII).
+     * @return The change applied; the catalog is unchanged and no listener is called if it has no changes.
+     * @throws IOException if the file cannot be read.
+     */
+    public synchronized CatalogChange reload(Path file) throws IOException {
+        CatalogChange change;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File exceeds the maximum mappable size: " + file);
+            }
+            change = apply(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+        if (change.hasChanges()) {
+            snapshot = change.getCurrent();
+            for (Consumer<CatalogChange> listener : listeners) {
+                listener.accept(change);
+            }
+        }
+        return change;
+    }
+
+    private CatalogChange apply(ByteBuffer content) {
+        Diff diff = new Diff(snapshot, failures);
+        int limit = content.limit();
+        int lineStart = 0;
+        long lineNumber = 0;
+        while (lineStart < limit) {
+            // One pass per line: skip leading blanks, then hash up to the last non-blank byte.
+            int start = lineStart;
+            while (start < limit && (content.get(start) & 0xFF) <= ' ' && content.get(start) != '\n') {
+                start++;
+            }
+            int end = start;
+            long hash = FNV_OFFSET_BASIS;
+            long trimmedHash = hash;
+            int pos = start;
+            for (int b; pos < limit && (b = content.get(pos) & 0xFF) != '\n'; pos++) {
+                hash = (hash ^ b) * FNV_PRIME;
+                if (b > ' ') {
+                    trimmedHash = hash;
+                    end = pos + 1;
+                }
+            }
+            lineNumber++;
+            if (start < end && content.get(start) != '#') {
+                // Mixed so the low bits of the key can index the table
+                diff.line(CronFieldParser.mix(trimmedHash), start, end, lineNumber, content);
+            }
+            lineStart = pos + 1;
+        }
+        diff.flush(content);
+        failures = diff.failures;
+        return diff.finish();
+    }
+
+    /**
+     * State of one reload: which entries of the previous snapshot the file still has, and the new lines.
+     * <p>
+     * Lines are hashed in batches before their keys are looked up, so the table's cache misses overlap instead
+     * of each waiting behind the hashing of the next line.
+     */
+    private final class Diff {
+        private static final int BATCH_SIZE = 256;
+
+        private final long[] batchKeys = new long[BATCH_SIZE];
+        private final int[] batchStarts = new int[BATCH_SIZE];
+        private final int[] batchEnds = new int[BATCH_SIZE];
+        private final long[] batchLineNumbers = new long[BATCH_SIZE];
+        private final int[] batchIndexes = new int[BATCH_SIZE];
+        private int batchSize;
+
+        private final Snapshot previous;
+        private final Map<Long, LineError> previousFailures;
+        private final Map<Long, LineError> failures = new HashMap<>();
+        private final boolean[] seen;
+        private final Set<Long> newKeys = new HashSet<>();
+        private final List<CronExpression> added = new ArrayList<>();
+        private long[] addedKeys = new long[16];
+        private final List<LineError> errors = new ArrayList<>();
+
+        private Diff(Snapshot previous, Map<Long, LineError> previousFailures) {
+            this.previous = previous;
+            this.previousFailures = previousFailures;
+            this.seen = new boolean[previous.size];
+        }
+
+        private void line(long key, int start, int end, long lineNumber, ByteBuffer content) {
+            batchKeys[batchSize] = key;
+            batchStarts[batchSize] = start;
+            batchEnds[batchSize] = end;
+            batchLineNumbers[batchSize] = lineNumber;
+            if (++batchSize == BATCH_SIZE) {
+                flush(content);
+            }
+        }
+
+        /**
+         * Claims each batched line's entry in the previous snapshot, or its error if it failed to parse before, or
+         * parses the line if it has neither. The n-th copy of a line gets the n-th key of its chain, so identical
+         * lines stay distinct jobs.
+         */
+        private void flush(ByteBuffer content) {
+            for (int i = 0; i < batchSize; i++) {
+                batchIndexes[i] = previous.indexOf(batchKeys[i]);
+            }
+            for (int i = 0; i < batchSize; i++) {
+                long key = batchKeys[i];
+                int index = batchIndexes[i];
+                while (true) {
+                    if (index >= 0 && !seen[index]) {
+                        seen[index] = true;
+                        break;
+                    }
+                    if (index < 0 && newKeys.add(key)) {
+                        long lineNumber = batchLineNumbers[i];
+                        LineError failure = previousFailures.get(key);
+                        if (failure == null) {
+                            parse(key, decode(content, batchStarts[i], batchEnds[i]), lineNumber);
+                        } else {  // Unchanged bad line: only its line number may have moved
+                            failures.put(key, failure.getLineNumber() == lineNumber
+                                    ? failure
+                                    : new LineError(lineNumber, failure.getLine(), failure.getMessage()));
+                        }
+                        break;
+                    }
+                    key = nextKey(key);
+                    index = previous.indexOf(key);
+                }
+            }
+            batchSize = 0;
+        }
+
+        private void parse(long key, String line, long lineNumber) {
+            try {
+                CronExpression expression = parser.parse(line);
+                if (added.size() == addedKeys.length) {
+                    addedKeys = Arrays.copyOf(addedKeys, addedKeys.length * 2);
+                }
+                addedKeys[added.size()] = key;
+                added.add(expression);
+            } catch (IllegalArgumentException e) {
+                LineError error = new LineError(lineNumber, line, e.getMessage());
+                errors.add(error);
+                failures.put(key, error);
+            }
+        }
+
+        private CatalogChange finish() {
+            int[] removedIndexes = new int[16];
+            List<CronExpression> removed = new ArrayList<>();
+            for (int i = 0; i < previous.size; i++) {
+                if (!seen[i]) {
+                    if (removed.size() == removedIndexes.length) {
+                        removedIndexes = Arrays.copyOf(removedIndexes, removedIndexes.length * 2);
+                    }
+                    removedIndexes[removed.size()] = i;
+                    removed.add(previous.expressions[i]);
+                }
+            }
+            Snapshot current = added.isEmpty() && removed.isEmpty()
+                    ? previous
+                    : previous.apply(removedIndexes, removed.size(), addedKeys, added);
+            return new CatalogChange(previous, current, Collections.unmodifiableList(added),
+                    Collections.unmodifiableList(removed), Collections.unmodifiableList(errors));
+        }
+    }
+
+    private static long nextKey(long key) {
+        return CronFieldParser.mix(key + CronFieldParser.GOLDEN_GAMMA);
+    }
+
+    private static String decode(ByteBuffer content, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = content.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Immutable view of the catalog at one version. Expressions are kept in dense arrays, with an
+     * open-addressing table from line key to array position; a reload patches copies of these arrays.
+     * Each table slot holds the key next to the position, so a lookup touches one cache line.
+     * The order of expressions is arbitrary and changes between versions.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, new long[0], new CronExpression[0], 0, new long[4]);
+
+        private final long version;
+        private final long[] keys;
+        private final CronExpression[] expressions;
+        private final int size;
+        private final long[] table;  // Per slot: key, then array position + 1, or 0 if the slot is free
+
+        private Snapshot(long version, long[] keys, CronExpression[] expressions, int size, long[] table) {
+            this.version = version;
+            this.keys = keys;
+            this.expressions = expressions;
+            this.size = size;
+            this.table = table;
+        }
+
+        /**
+         * @return Number of reloads that changed the catalog before this snapshot was published.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return Number of expressions in the catalog.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param index Position between 0 and {@code size() - 1}.
+         * @return The expression at that position.
+         */
+        public CronExpression get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            return expressions[index];
+        }
+
+        /**
+         * @return Unmodifiable view of all expressions in the catalog.
+         */
+        public List<CronExpression> getExpressions() {
+            return Collections.unmodifiableList(Arrays.asList(expressions).subList(0, size));
+        }
+
+        int indexOf(long key) {
+            int mask = table.length / 2 - 1;
+            for (int slot = (int) key & mask; table[2 * slot + 1] != 0; slot = (slot + 1) & mask) {
+                if (table[2 * slot] == key) {
+                    return (int) table[2 * slot + 1] - 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the next version: a copy of this snapshot without the entries at the given positions (in
+         * ascending order) and with the given entries appended.
+         */
+        Snapshot apply(int[] removedIndexes, int removedCount, long[] addedKeys, List<CronExpression> added) {
+            int newSize = size - removedCount + added.size();
+            int length = Math.max(size, newSize);
+            long[] newKeys = Arrays.copyOf(keys, length);
+            CronExpression[] newExpressions = Arrays.copyOf(expressions, length);
+            int capacity = table.length / 2;
+            boolean rebuild = newSize * 2 > capacity;
+            while (newSize * 2 > capacity) {
+                capacity *= 2;
+            }
+            long[] newTable = rebuild ? new long[2 * capacity] : table.clone();
+
+            // Remove from the highest position down, so the last entry moved into a hole is always kept.
+            int count = size;
+            for (int i = removedCount - 1; i >= 0; i--) {
+                int index = removedIndexes[i];
+                if (!rebuild) {
+                    removeSlot(newTable, slotOf(newTable, newKeys, index));
+                }
+                count--;
+                if (index != count) {
+                    newKeys[index] = newKeys[count];
+                    newExpressions[index] = newExpressions[count];
+                    if (!rebuild) {
+                        newTable[2 * slotOf(newTable, newKeys, count) + 1] = index + 1;
+                    }
+                }
+                newExpressions[count] = null;
+            }
+            for (int i = 0; i < added.size(); i++) {
+                newKeys[count] = addedKeys[i];
+                newExpressions[count] = added.get(i);
+                count++;
+            }
+            for (int i = rebuild ? 0 : count - added.size(); i < count; i++) {
+                insertSlot(newTable, newKeys, i);
+            }
+            return new Snapshot(version + 1, newKeys, newExpressions, newSize, newTable);
+        }
+
+        private static int slotOf(long[] table, long[] keys, int index) {
+            int mask = table.length / 2 - 1;
+            int slot = (int) keys[index] & mask;
+            while (table[2 * slot + 1] != index + 1) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static void insertSlot(long[] table, long[] keys, int index) {
+            int mask = table.length / 2 - 1;
+            int slot = (int) keys[index] & mask;
+            while (table[2 * slot + 1] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[2 * slot] = keys[index];
+            table[2 * slot + 1] = index + 1;
+        }
+
+        /**
+         * Frees a slot by shifting later entries of its probe run back, so lookups never need tombstones.
+         */
+        private static void removeSlot(long[] table, int slot) {
+            int mask = table.length / 2 - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; table[2 * next + 1] != 0; next = (next + 1) & mask) {
+                int home = (int) table[2 * next] & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    table[2 * hole] = table[2 * next];
+                    table[2 * hole + 1] = table[2 * next + 1];
+                    hole = next;
+                }
+            }
+            table[2 * hole + 1] = 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.cornparser.cluster;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Jobs a node took over and gave up in one rebalance, after a membership change.
+ */
+@Data
+public class Handoff {
+    private final String nodeId;
+    private final List<String> acquired;
+    private final List<String> released;
+}
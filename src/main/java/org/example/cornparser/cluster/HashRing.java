@@ -0,0 +1,109 @@
+package org.example.cornparser.cluster;
+
+import org.example.cornparser.parser.CronFieldParser;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring assigning job keys to nodes. Each node is placed at many points on the ring
+ * (virtual nodes), and a job belongs to the node owning the first point at or after the job's key.
+ * <p>
+ * Adding or removing one of N nodes moves only about 1/N of the jobs. The jobs it moves go to or come from that
+ * node, never between the other nodes. Placement depends only on node ids and job ids, so every node computes
+ * the same assignment from the same membership without a coordinator.
+ */
+public final class HashRing {
+    /**
+     * Virtual nodes per node by default. Shard sizes vary by about 1/sqrt(virtual nodes), so this keeps them
+     * within about 5% of the mean, at 12 bytes of ring per point.
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 1_024;
+
+
+    private final List<String> nodes;
+    private final long[] points;  // Sorted ring positions
+    private final int[] owners;   // Index into nodes of the node at each point
+
+    /**
+     * Creates a ring with {@link #DEFAULT_VIRTUAL_NODES} points per node.
+     *
+     * @param nodes Node ids; duplicates are ignored.
+     */
+    public HashRing(Collection<String> nodes) {
+        this(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param nodes        Node ids; duplicates are ignored.
+     * @param virtualNodes Points per node on the ring.
+     * @throws IllegalArgumentException if virtualNodes is not positive.
+     */
+    public HashRing(Collection<String> nodes, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+        this.nodes = Collections.unmodifiableList(Arrays.asList(new TreeSet<>(nodes).toArray(new String[0])));
+        int count = this.nodes.size() * virtualNodes;
+        long[] unsorted = new long[count];
+        Integer[] order = new Integer[count];
+        for (int node = 0; node < this.nodes.size(); node++) {
+            long nodeKey = keyOf(this.nodes.get(node));
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                int point = node * virtualNodes + replica;
+                unsorted[point] = CronFieldParser.mix(nodeKey + replica * CronFieldParser.GOLDEN_GAMMA);
+                order[point] = point;
+            }
+        }
+        Arrays.sort(order, (a, b) -> unsorted[a] != unsorted[b] ? Long.compare(unsorted[a], unsorted[b]) : a - b);
+        this.points = new long[count];
+        this.owners = new int[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = unsorted[order[i]];
+            owners[i] = order[i] / virtualNodes;
+        }
+    }
+
+    /**
+     * Returns the ring position of a job or node id: a 64-bit FNV-1a hash, finished with the Murmur3 finalizer.
+     *
+     * @param id The job or node id.
+     * @return The id's position on the ring.
+     */
+    public static long keyOf(CharSequence id) {
+        return CronFieldParser.mix(CronFieldParser.hash(id));
+    }
+
+    /**
+     * @param jobId The job id.
+     * @return The node owning the job, or null if the ring has no nodes.
+     */
+    public String ownerOf(CharSequence jobId) {
+        return ownerOf(keyOf(jobId));
+    }
+
+    /**
+     * @param key A ring position, as returned by {@link #keyOf}.
+     * @return The node owning that position, or null if the ring has no nodes.
+     */
+    public String ownerOf(long key) {
+        if (points.length == 0) {
+            return null;
+        }
+        int i = Arrays.binarySearch(points, key);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return nodes.get(owners[i == points.length ? 0 : i]);
+    }
+
+    /**
+     * @return The node ids on the ring, sorted.
+     */
+    public List<String> getNodes() {
+        return nodes;
+    }
+}
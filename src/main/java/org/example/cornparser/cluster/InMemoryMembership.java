@@ -0,0 +1,62 @@
+package org.example.cornparser.cluster;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Membership kept in memory and changed by explicit calls, for several nodes in one JVM or for tests.
+ * Listeners are called on the thread that changed the membership, one change at a time.
+ */
+public class InMemoryMembership implements Membership {
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Set<String> members = Collections.emptySet();
+
+    @Override
+    public Set<String> getMembers() {
+        return members;
+    }
+
+    @Override
+    public void addListener(Consumer<Set<String>> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(Consumer<Set<String>> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Adds a node and notifies listeners.
+     *
+     * @param nodeId The node id.
+     * @return Whether the node was not already a member.
+     */
+    public synchronized boolean join(String nodeId) {
+        Set<String> next = new TreeSet<>(members);
+        return next.add(nodeId) && publish(next);
+    }
+
+    /**
+     * Removes a node and notifies listeners.
+     *
+     * @param nodeId The node id.
+     * @return Whether the node was a member.
+     */
+    public synchronized boolean leave(String nodeId) {
+        Set<String> next = new TreeSet<>(members);
+        return next.remove(nodeId) && publish(next);
+    }
+
+    private boolean publish(Set<String> next) {
+        members = Collections.unmodifiableSet(next);
+        for (Consumer<Set<String>> listener : listeners) {
+            listener.accept(members);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.cornparser.cluster;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Source of the current set of scheduler nodes, such as a static list, a gossip protocol or a service registry.
+ * {@link ShardNode}s rebalance whenever it reports a new member set.
+ */
+public interface Membership {
+    /**
+     * @return Ids of the nodes currently in the cluster.
+     */
+    Set<String> getMembers();
+
+    /**
+     * Registers a listener called with the full member set after every change.
+     *
+     * @param listener Receives an immutable member set.
+     */
+    void addListener(Consumer<Set<String>> listener);
+
+    /**
+     * @param listener A listener previously registered.
+     */
+    void removeListener(Consumer<Set<String>> listener);
+}
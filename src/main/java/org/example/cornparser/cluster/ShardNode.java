@@ -0,0 +1,224 @@
+package org.example.cornparser.cluster;
+
+import org.example.cornparser.index.ScheduleIndex;
+import org.example.cornparser.model.CronExpression;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * One scheduler node's share of a job set partitioned with a {@link HashRing}.
+ * <p>
+ * Every node is given the whole job set, but indexes only the jobs the ring assigns to it, so due-set queries
+ * cost time in proportion to its shard. When the {@link Membership} changes, the node rebuilds the ring,
+ * indexes the jobs it acquired, drops the ones it released and reports both as a {@link Handoff}. Each node
+ * works out its own share, so no coordinator is needed. Until every node has seen a membership change, a job
+ * may briefly be owned by two nodes or by none, so firing should be idempotent per job and minute.
+ * <p>
+ * The node is thread-safe. Handoff listeners are called while it is locked.
+ */
+public final class ShardNode implements AutoCloseable {
+    private final String nodeId;
+    private final Membership membership;
+    private final int virtualNodes;
+    private final Consumer<Set<String>> membershipListener = this::rebalance;
+    private final List<Consumer<Handoff>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<String, Job> jobs = new HashMap<>();
+    private final ScheduleIndex index = new ScheduleIndex();
+    private String[] jobIds = new String[1_024];  // Job id by index slot
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int nextSlot;
+    private HashRing ring;
+
+    /**
+     * Creates a node with {@link HashRing#DEFAULT_VIRTUAL_NODES} points per member on the ring.
+     *
+     * @param nodeId     This node's id, as it appears in the membership.
+     * @param membership Source of the member set; the node follows it until closed.
+     */
+    public ShardNode(String nodeId, Membership membership) {
+        this(nodeId, membership, HashRing.DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param nodeId       This node's id, as it appears in the membership.
+     * @param membership   Source of the member set; the node follows it until closed.
+     * @param virtualNodes Points per member on the ring; must be the same on every node.
+     */
+    public ShardNode(String nodeId, Membership membership, int virtualNodes) {
+        this.nodeId = nodeId;
+        this.membership = membership;
+        this.virtualNodes = virtualNodes;
+        synchronized (this) {
+            // Listen before reading the members, so a change racing with the read rebalances from the fresh ring
+            membership.addListener(membershipListener);
+            this.ring = new HashRing(membership.getMembers(), virtualNodes);
+        }
+    }
+
+    /**
+     * Adds a job to the job set, or replaces its expression, indexing it if this node owns it.
+     *
+     * @param jobId      Cluster-wide job id, which decides the owner.
+     * @param expression The job's expression.
+     */
+    public synchronized void addJob(String jobId, CronExpression expression) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            job = new Job(HashRing.keyOf(jobId), allocateSlot(jobId));
+            jobs.put(jobId, job);
+        }
+        job.expression = expression;
+        if (nodeId.equals(ring.ownerOf(job.key))) {
+            index.add(job.slot, expression);
+        }
+    }
+
+    /**
+     * Removes a job from the job set.
+     *
+     * @param jobId The job id.
+     * @return Whether the job was in the job set.
+     */
+    public synchronized boolean removeJob(String jobId) {
+        Job job = jobs.remove(jobId);
+        if (job == null) {
+            return false;
+        }
+        index.remove(job.slot);
+        jobIds[job.slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = job.slot;
+        return true;
+    }
+
+    /**
+     * Passes the id of every job in this node's shard that is due at the given minute to the action.
+     *
+     * @param time   The minute, in the jobs' time zone.
+     * @param action Receives each due job id.
+     */
+    public synchronized void forEachDue(LocalDateTime time, Consumer<String> action) {
+        index.forEachDue(time, slot -> action.accept(jobIds[slot]));
+    }
+
+    /**
+     * @param jobId The job id.
+     * @return Whether this node owns the job under its current view of the membership.
+     */
+    public synchronized boolean owns(String jobId) {
+        return nodeId.equals(ring.ownerOf(jobId));
+    }
+
+    /**
+     * @return Ids of the jobs in this node's shard, sorted.
+     */
+    public synchronized Set<String> getOwnedJobs() {
+        Set<String> owned = new TreeSet<>();
+        for (Map.Entry<String, Job> entry : jobs.entrySet()) {
+            if (index.contains(entry.getValue().slot)) {
+                owned.add(entry.getKey());
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * @return Number of jobs in this node's shard.
+     */
+    public synchronized int getOwnedCount() {
+        return index.size();
+    }
+
+    /**
+     * @return This node's id.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Registers a listener called after each rebalance that moved jobs to or from this node.
+     *
+     * @param listener Receives the handoff.
+     */
+    public void addHandoffListener(Consumer<Handoff> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops following the membership. The shard stays as it is.
+     */
+    @Override
+    public void close() {
+        membership.removeListener(membershipListener);
+    }
+
+    /**
+     * Moves jobs between the shard and the rest of the job set to match the new ring. Every job's owner is
+     * recomputed, which costs a ring lookup per job; only jobs whose ownership changed touch the index.
+     */
+    private synchronized void rebalance(Set<String> members) {
+        HashRing next = new HashRing(members, virtualNodes);
+        List<String> acquired = new ArrayList<>();
+        List<String> released = new ArrayList<>();
+        for (Map.Entry<String, Job> entry : jobs.entrySet()) {
+            Job job = entry.getValue();
+            boolean owned = nodeId.equals(ring.ownerOf(job.key));
+            boolean owns = nodeId.equals(next.ownerOf(job.key));
+            if (owns && !owned) {
+                index.add(job.slot, job.expression);
+                acquired.add(entry.getKey());
+            } else if (owned && !owns) {
+                index.remove(job.slot);
+                released.add(entry.getKey());
+            }
+        }
+        ring = next;
+        if (!acquired.isEmpty() || !released.isEmpty()) {
+            Collections.sort(acquired);
+            Collections.sort(released);
+            Handoff handoff = new Handoff(nodeId, Collections.unmodifiableList(acquired),
+                    Collections.unmodifiableList(released));
+            for (Consumer<Handoff> listener : listeners) {
+                listener.accept(handoff);
+            }
+        }
+    }
+
+    private int allocateSlot(String jobId) {
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot++;
+        if (slot == jobIds.length) {
+            jobIds = Arrays.copyOf(jobIds, slot * 2);
+        }
+        jobIds[slot] = jobId;
+        return slot;
+    }
+
+    /**
+     * A job in the job set: its ring position, its slot in the index and its current expression.
+     */
+    private static final class Job {
+        private final long key;
+        private final int slot;
+        private CronExpression expression;
+
+        private Job(long key, int slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+    }
+}
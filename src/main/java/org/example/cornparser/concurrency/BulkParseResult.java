@@ -0,0 +1,23 @@
+package org.example.cornparser.concurrency;
+
+import lombok.Data;
+import org.example.cornparser.model.CronExpression;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link ConcurrentCronParser#parseAll}: parsed expressions and failures, both in input order.
+ * The expression list has one slot per input, holding null where parsing failed.
+ */
+@Data
+public class BulkParseResult {
+    private final List<CronExpression> expressions;
+    private final List<ParseFailure> failures;
+
+    /**
+     * @return True if at least one input failed to parse.
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
@@ -1,29 +1,57 @@
 package org.example.cornparser.concurrency;
 
+import org.example.cornparser.metrics.MetricsSink;
 import org.example.cornparser.model.CronExpression;
 import org.example.cornparser.parser.CronParser;
 import org.example.cornparser.parser.DefaultCronParser;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Handles parsing of cron expressions concurrently using a fixed thread pool.
+ * Handles parsing of cron expressions concurrently, by default on a fixed thread pool.
+ * Use {@link #builder()} to supply an executor, size the pool to the available cores or run on virtual threads.
  */
 public class ConcurrentCronParser {
     private static final int THREAD_POOL_SIZE = 10;  // Number of threads in the pool
+    private static final int DEFAULT_CHUNK_SIZE = 1_024;  // Expressions parsed per task by parseAll
     private static final Logger LOGGER = Logger.getLogger(ConcurrentCronParser.class.getName());
 
     private final ExecutorService executorService;
+    private final boolean ownsExecutor;
     private final CronParser parser;
+    private final int chunkSize;
+    private final MetricsSink metrics;
 
     /**
      * Constructor initializes the thread pool and cron parser.
      */
     public ConcurrentCronParser() {
-        this.executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
-        this.parser = new DefaultCronParser();
+        this(Executors.newFixedThreadPool(THREAD_POOL_SIZE), true, new DefaultCronParser(), DEFAULT_CHUNK_SIZE,
+                MetricsSink.noop());
+    }
+
+    private ConcurrentCronParser(ExecutorService executorService, boolean ownsExecutor, CronParser parser,
+                                 int chunkSize, MetricsSink metrics) {
+        this.executorService = executorService;
+        this.ownsExecutor = ownsExecutor;
+        this.parser = parser;
+        this.chunkSize = chunkSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return A builder for configuring the executor, parser and chunk size.
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -33,20 +61,125 @@ public class ConcurrentCronParser {
      * @return a Future containing the parsed CronExpression object, or null if parsing fails
      */
     public Future<CronExpression> parseCronExpression(String cronExpression) {
-        return executorService.submit(() -> {
-            try {
-                return parser.parse(cronExpression);
-            } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Error parsing cron expression: " + cronExpression, e);
-                throw new ExecutionException("Failed to parse cron expression: " + cronExpression, e);
+        long submitted = markSubmitted();
+        try {
+            return executorService.submit(() -> {
+                long started = metrics.isEnabled() ? System.nanoTime() : 0L;
+                try {
+                    return parser.parse(cronExpression);
+                } catch (Exception e) {
+                    LOGGER.log(Level.SEVERE, "Error parsing cron expression: " + cronExpression, e);
+                    throw new ExecutionException("Failed to parse cron expression: " + cronExpression, e);
+                } finally {
+                    recordTask(submitted, started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejection();
+            throw e;
+        }
+    }
+
+    /**
+     * Parses many cron expressions, splitting them into chunks that run as one task each.
+     * Failures are collected per item instead of failing the whole batch.
+     * Cancelling the returned future stops chunks that have not finished yet.
+     *
+     * @param cronExpressions the cron expressions to parse
+     * @return a future completing with the parsed expressions and failures, both in input order
+     */
+    public CompletableFuture<BulkParseResult> parseAll(Collection<String> cronExpressions) {
+        String[] inputs = cronExpressions.toArray(new String[0]);
+        CronExpression[] expressions = new CronExpression[inputs.length];
+        int chunkCount = (inputs.length + chunkSize - 1) / chunkSize;
+        @SuppressWarnings("unchecked")
+        List<ParseFailure>[] chunkFailures = new List[chunkCount];
+        CompletableFuture<BulkParseResult> result = new CompletableFuture<>();
+
+        CompletableFuture<?>[] chunks = new CompletableFuture[chunkCount];
+        try {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize, inputs.length);
+                int index = chunk;
+                long submitted = markSubmitted();
+                chunks[chunk] = CompletableFuture.runAsync(() -> {
+                    long started = metrics.isEnabled() ? System.nanoTime() : 0L;
+                    chunkFailures[index] = parseChunk(inputs, expressions, from, to, result);
+                    recordTask(submitted, started);
+                }, executorService);
+            }
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejection();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        CompletableFuture.allOf(chunks).whenComplete((ignored, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            List<ParseFailure> failures = new ArrayList<>();
+            for (List<ParseFailure> chunk : chunkFailures) {
+                failures.addAll(chunk);
             }
+            result.complete(new BulkParseResult(Collections.unmodifiableList(Arrays.asList(expressions)),
+                    Collections.unmodifiableList(failures)));
         });
+        return result;
+    }
+
+    /**
+     * Parses inputs[from, to) into expressions, stopping early once the overall result is done (e.g. cancelled).
+     */
+    private List<ParseFailure> parseChunk(String[] inputs, CronExpression[] expressions, int from, int to,
+                                          CompletableFuture<BulkParseResult> result) {
+        List<ParseFailure> failures = new ArrayList<>();
+        for (int i = from; i < to && !result.isDone(); i++) {
+            try {
+                expressions[i] = parser.parse(inputs[i]);
+            } catch (RuntimeException e) {
+                failures.add(new ParseFailure(i, inputs[i], e));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Samples the executor's load for the metrics sink.
+     *
+     * @return Submission time for {@link #recordTask}, or 0 when metrics are disabled.
+     */
+    private long markSubmitted() {
+        if (!metrics.isEnabled()) {
+            return 0L;
+        }
+        if (executorService instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executorService;
+            metrics.recordExecutorState(pool.getQueue().size(), pool.getActiveCount());
+        } else if (executorService instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executorService;
+            long queued = pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+            metrics.recordExecutorState((int) Math.min(queued, Integer.MAX_VALUE), pool.getActiveThreadCount());
+        }
+        return System.nanoTime();
+    }
+
+    private void recordTask(long submitted, long started) {
+        if (metrics.isEnabled()) {
+            metrics.recordTask(started - submitted, System.nanoTime() - started);
+        }
     }
 
     /**
      * Gracefully shuts down the executor service, ensuring all tasks complete execution.
+     * A caller-supplied executor is left running.
      */
     public void shutdown() {
+        if (!ownsExecutor) {
+            return;
+        }
         executorService.shutdown();
         try {
             if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {  // Wait for active tasks to finish
@@ -59,4 +192,115 @@ public class ConcurrentCronParser {
             Thread.currentThread().interrupt();
         }
     }
+
+    /**
+     * Configures a {@link ConcurrentCronParser}. Defaults to a pool sized to the available cores,
+     * a {@link DefaultCronParser}, chunks of 1,024 expressions and no metrics.
+     */
+    public static final class Builder {
+        private ExecutorService executorService;
+        private boolean ownsExecutor = true;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private boolean virtualThreads;
+        private CronParser parser;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private MetricsSink metrics = MetricsSink.noop();
+
+        private Builder() {
+        }
+
+        /**
+         * Runs tasks on a caller-supplied executor, which {@link #shutdown()} leaves running.
+         */
+        public Builder executor(ExecutorService executorService) {
+            this.executorService = executorService;
+            this.ownsExecutor = false;
+            this.virtualThreads = false;
+            return this;
+        }
+
+        /**
+         * Runs tasks on a fixed pool with the given number of threads.
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be positive: " + threads);
+            }
+            this.threads = threads;
+            this.executorService = null;
+            this.virtualThreads = false;
+            return this;
+        }
+
+        /**
+         * Runs tasks on a fixed pool with one thread per available core.
+         */
+        public Builder poolSizedToCores() {
+            return threads(Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Runs each task on its own virtual thread. Requires a Java 21+ runtime.
+         */
+        public Builder virtualThreads() {
+            this.virtualThreads = true;
+            this.executorService = null;
+            return this;
+        }
+
+        /**
+         * Uses the given parser for every expression.
+         */
+        public Builder parser(CronParser parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * Sets how many expressions {@link #parseAll} parses per task.
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Reports executor load, task wait and run times and rejections to the given sink. Unless a parser is set,
+         * the default parser reports parse latency, per-field cost and validation failures to it as well.
+         */
+        public Builder metrics(MetricsSink metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return The configured parser.
+         * @throws UnsupportedOperationException if virtual threads were requested on a runtime without them.
+         */
+        public ConcurrentCronParser build() {
+            CronParser cronParser = parser != null ? parser : new DefaultCronParser(metrics);
+            if (executorService != null) {
+                return new ConcurrentCronParser(executorService, ownsExecutor, cronParser, chunkSize, metrics);
+            }
+            ExecutorService executor = virtualThreads ? newVirtualThreadExecutor() : Executors.newFixedThreadPool(threads);
+            return new ConcurrentCronParser(executor, true, cronParser, chunkSize, metrics);
+        }
+
+        /**
+         * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, so the library still targets Java 11.
+         */
+        private static ExecutorService newVirtualThreadExecutor() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create virtual thread executor", e);
+            }
+        }
+    }
 }
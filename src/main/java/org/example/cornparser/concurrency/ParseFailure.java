@@ -0,0 +1,13 @@
+package org.example.cornparser.concurrency;
+
+import lombok.Data;
+
+/**
+ * A cron expression that failed to parse during a bulk parse, with its position in the input.
+ */
+@Data
+public class ParseFailure {
+    private final int index;
+    private final String input;
+    private final RuntimeException error;
+}
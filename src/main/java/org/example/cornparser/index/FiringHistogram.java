@@ -0,0 +1,184 @@
+package org.example.cornparser.index;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Number of jobs in a catalog firing at each minute of the day, for finding load spikes such as thousands of
+ * jobs at :00 before they reach the workers.
+ * <p>
+ * Jobs are first grouped by minute field, with a per-hour job count for each group. Building costs one step per
+ * job and hour, plus one step per minute of the day for each distinct minute field, so a catalog of millions of
+ * jobs with a few thousand distinct schedules builds quickly.
+ */
+public final class FiringHistogram {
+    /** Number of buckets: one per minute of the day. */
+    public static final int MINUTES_PER_DAY = 1_440;
+
+    private static final int ALL_DAYS_OF_MONTH = 0xFFFFFFFE;   // Bits 1-31
+    private static final int ALL_DAYS_OF_WEEK = 0x7F;          // Bits 0-6
+
+    private final long[] counts;
+    private final long total;
+
+    private FiringHistogram(long[] counts) {
+        this.counts = counts;
+        long sum = 0;
+        for (long count : counts) {
+            sum += count;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Builds the histogram of a day on which every job runs, ignoring the day-of-month, month and day-of-week
+     * fields.
+     *
+     * @param catalog The jobs to analyze.
+     * @return Firings per minute of the day.
+     */
+    public static FiringHistogram of(Iterable<? extends CronExpression> catalog) {
+        return build(catalog, null);
+    }
+
+    /**
+     * Builds the histogram of the given date, counting only jobs whose month and day fields match it.
+     *
+     * @param catalog The jobs to analyze.
+     * @param date    The calendar date, in the jobs' time zone.
+     * @return Firings per minute of that date.
+     */
+    public static FiringHistogram of(Iterable<? extends CronExpression> catalog, LocalDate date) {
+        return build(catalog, date);
+    }
+
+    private static FiringHistogram build(Iterable<? extends CronExpression> catalog, LocalDate date) {
+        Map<Long, long[]> jobsPerHourByMinutes = new HashMap<>();
+        for (CronExpression expression : catalog) {
+            CronSchedule schedule = expression.getSchedule();
+            if (date != null && !runsOn(schedule, date)) {
+                continue;
+            }
+            long[] jobsPerHour = jobsPerHourByMinutes.computeIfAbsent(schedule.getMinuteBits(), bits -> new long[24]);
+            for (int hours = schedule.getHourBits() & 0xFFFFFF; hours != 0; hours &= hours - 1) {
+                jobsPerHour[Integer.numberOfTrailingZeros(hours)]++;
+            }
+        }
+
+        long[] counts = new long[MINUTES_PER_DAY];
+        for (Map.Entry<Long, long[]> entry : jobsPerHourByMinutes.entrySet()) {
+            long minuteBits = entry.getKey() & ((1L << 60) - 1);
+            long[] jobsPerHour = entry.getValue();
+            for (int hour = 0; hour < 24; hour++) {
+                if (jobsPerHour[hour] == 0) {
+                    continue;
+                }
+                for (long minutes = minuteBits; minutes != 0; minutes &= minutes - 1) {
+                    counts[hour * 60 + Long.numberOfTrailingZeros(minutes)] += jobsPerHour[hour];
+                }
+            }
+        }
+        return new FiringHistogram(counts);
+    }
+
+    /**
+     * Applies the month field and cron's day rule: a wildcard day field defers to the other one, and two
+     * restricted fields match on either.
+     */
+    private static boolean runsOn(CronSchedule schedule, LocalDate date) {
+        if ((schedule.getMonthBits() & (1 << date.getMonthValue())) == 0) {
+            return false;
+        }
+        int daysOfMonth = schedule.getDayOfMonthBits() & ALL_DAYS_OF_MONTH;
+        int daysOfWeek = schedule.getDayOfWeekBits() & ALL_DAYS_OF_WEEK;
+        boolean dayOfMonth = (daysOfMonth & (1 << date.getDayOfMonth())) != 0;
+        boolean dayOfWeek = (daysOfWeek & (1 << date.getDayOfWeek().getValue() % 7)) != 0;
+        if (daysOfMonth == ALL_DAYS_OF_MONTH || daysOfWeek == ALL_DAYS_OF_WEEK) {
+            return dayOfMonth && dayOfWeek;
+        }
+        return dayOfMonth || dayOfWeek;
+    }
+
+    /**
+     * @param hour   Hour of the day (0-23).
+     * @param minute Minute of the hour (0-59).
+     * @return Number of jobs firing at that minute.
+     */
+    public long getCount(int hour, int minute) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            throw new IllegalArgumentException("Invalid time of day: " + hour + ":" + minute);
+        }
+        return counts[hour * 60 + minute];
+    }
+
+    /**
+     * @return Firings per minute of the hour (0-59), summed over all hours of the day.
+     */
+    public long[] getMinuteOfHourCounts() {
+        long[] minutes = new long[60];
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            minutes[i % 60] += counts[i];
+        }
+        return minutes;
+    }
+
+    /**
+     * @return Firings per minute of the day, indexed by {@code hour * 60 + minute}.
+     */
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * @return Total number of firings over the day.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return The busiest minute of the day as {@code hour * 60 + minute}, the earliest one on ties.
+     */
+    public int getPeakMinuteOfDay() {
+        int peak = 0;
+        for (int i = 1; i < MINUTES_PER_DAY; i++) {
+            if (counts[i] > counts[peak]) {
+                peak = i;
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * @return Number of firings in the busiest minute of the day.
+     */
+    public long getPeak() {
+        return counts[getPeakMinuteOfDay()];
+    }
+
+    /**
+     * @return Mean number of firings per minute of the day.
+     */
+    public double getMean() {
+        return (double) total / MINUTES_PER_DAY;
+    }
+
+    /**
+     * @return How many times busier the peak minute is than the mean minute: 1.0 for perfectly even load,
+     * 0 for an empty catalog.
+     */
+    public double getPeakToMeanRatio() {
+        return total == 0 ? 0 : getPeak() / getMean();
+    }
+
+    @Override
+    public String toString() {
+        int peak = getPeakMinuteOfDay();
+        return String.format("total=%d, peak=%d at %02d:%02d, mean=%.2f, peak/mean=%.2f",
+                total, counts[peak], peak / 60, peak % 60, getMean(), getPeakToMeanRatio());
+    }
+}
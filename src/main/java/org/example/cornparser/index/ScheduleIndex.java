@@ -0,0 +1,264 @@
+package org.example.cornparser.index;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Inverted index answering "which jobs are due at this minute" over a large catalog of schedules.
+ * Every value of every field has a posting bitset over job ids, so a query is a handful of word-wide AND/OR
+ * operations per 64 jobs instead of a match per job:
+ * <pre>
+ *   day = dom[d] &amp; dow[w] | bothRestricted &amp; (dom[d] | dow[w])
+ *   due = minute[m] &amp; hour[h] &amp; month[mo] &amp; day
+ * </pre>
+ * where {@code bothRestricted} marks jobs whose day-of-month and day-of-week are both restricted, to which cron's
+ * OR rule applies.
+ * <p>
+ * Job ids are caller-assigned non-negative ints and should be dense, since postings are sized to the largest id.
+ * Adds and removes may run concurrently with queries: writers take a write lock, and queries read each block of
+ * postings optimistically, falling back to a read lock only when a write overlapped. Due ids are handed to the
+ * consumer outside any lock, so it may add or remove jobs.
+ */
+public final class ScheduleIndex {
+    private static final int MINUTE_ROW = 0;                    // 60 rows, minutes 0-59
+    private static final int HOUR_ROW = MINUTE_ROW + 60;        // 24 rows, hours 0-23
+    private static final int DAY_OF_MONTH_ROW = HOUR_ROW + 24;  // 31 rows, days 1-31
+    private static final int MONTH_ROW = DAY_OF_MONTH_ROW + 31; // 12 rows, months 1-12
+    private static final int DAY_OF_WEEK_ROW = MONTH_ROW + 12;  // 7 rows, Sunday = 0
+    private static final int BOTH_RESTRICTED_ROW = DAY_OF_WEEK_ROW + 7;
+    private static final int LIVE_ROW = BOTH_RESTRICTED_ROW + 1;
+    private static final int ROWS = LIVE_ROW + 1;
+
+    private static final int ALL_DAYS_OF_MONTH = 0xFFFFFFFE;   // Bits 1-31
+    private static final int ALL_DAYS_OF_WEEK = 0x7F;          // Bits 0-6
+    private static final int BLOCK_WORDS = 1_024;              // Words evaluated per optimistic read
+
+    private final StampedLock lock = new StampedLock();
+    private volatile long[][] postings;  // [row][word]; replaced as a whole when it grows, so all rows match in length
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    public ScheduleIndex() {
+        this(1_024);
+    }
+
+    /**
+     * Creates an empty index with room for job ids below {@code initialCapacity} before it has to grow.
+     */
+    public ScheduleIndex(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        this.postings = new long[ROWS][Math.max(1, (initialCapacity + 63) >>> 6)];
+    }
+
+    /**
+     * Indexes the expression's schedule under the given job id, replacing any schedule already indexed there.
+     */
+    public void add(int jobId, CronExpression expression) {
+        add(jobId, expression.getSchedule());
+    }
+
+    /**
+     * Indexes a schedule under the given job id, replacing any schedule already indexed there.
+     */
+    public void add(int jobId, CronSchedule schedule) {
+        if (jobId < 0) {
+            throw new IllegalArgumentException("Job id must not be negative: " + jobId);
+        }
+        int word = jobId >>> 6;
+        long bit = 1L << jobId;
+        long stamp = lock.writeLock();
+        try {
+            long[][] rows = postings;
+            if (word >= rows[0].length) {
+                rows = grow(rows, word + 1);
+            }
+            if ((rows[LIVE_ROW][word] & bit) != 0) {
+                clear(rows, word, bit);
+            } else {
+                size++;
+            }
+            setBits(rows, MINUTE_ROW, schedule.getMinuteBits(), 0, 60, word, bit);
+            setBits(rows, HOUR_ROW, schedule.getHourBits(), 0, 24, word, bit);
+            setBits(rows, DAY_OF_MONTH_ROW, schedule.getDayOfMonthBits(), 1, 31, word, bit);
+            setBits(rows, MONTH_ROW, schedule.getMonthBits(), 1, 12, word, bit);
+            setBits(rows, DAY_OF_WEEK_ROW, schedule.getDayOfWeekBits(), 0, 7, word, bit);
+            if ((schedule.getDayOfMonthBits() & ALL_DAYS_OF_MONTH) != ALL_DAYS_OF_MONTH
+                    && (schedule.getDayOfWeekBits() & ALL_DAYS_OF_WEEK) != ALL_DAYS_OF_WEEK) {
+                rows[BOTH_RESTRICTED_ROW][word] |= bit;
+            }
+            rows[LIVE_ROW][word] |= bit;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a job from the index.
+     *
+     * @return True if the job was indexed.
+     */
+    public boolean remove(int jobId) {
+        if (jobId < 0) {
+            return false;
+        }
+        int word = jobId >>> 6;
+        long bit = 1L << jobId;
+        long stamp = lock.writeLock();
+        try {
+            long[][] rows = postings;
+            if (word >= rows[0].length || (rows[LIVE_ROW][word] & bit) == 0) {
+                return false;
+            }
+            clear(rows, word, bit);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return True if a schedule is indexed under the job id.
+     */
+    public boolean contains(int jobId) {
+        if (jobId < 0) {
+            return false;
+        }
+        long stamp = lock.readLock();
+        try {
+            long[][] rows = postings;
+            int word = jobId >>> 6;
+            return word < rows[0].length && (rows[LIVE_ROW][word] & (1L << jobId)) != 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return Number of indexed jobs.
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Calls {@code action} with the id of every job due at the given local minute, in ascending id order.
+     * Daylight-saving adjustments are up to the caller, which decides which local minute a tick stands for.
+     */
+    public void forEachDue(LocalDateTime time, IntConsumer action) {
+        forEachDue(time.getMinute(), time.getHour(), time.getDayOfMonth(), time.getMonthValue(),
+                time.getDayOfWeek().getValue() % 7, action);
+    }
+
+    /**
+     * Calls {@code action} with the id of every job due at the given field values, in ascending id order.
+     *
+     * @param minute     Minute (0-59).
+     * @param hour       Hour (0-23).
+     * @param dayOfMonth Day of the month (1-31).
+     * @param month      Month (1-12).
+     * @param dayOfWeek  Day of the week (0-6, 0 = Sunday).
+     * @param action     Receives each due job id.
+     */
+    public void forEachDue(int minute, int hour, int dayOfMonth, int month, int dayOfWeek, IntConsumer action) {
+        int minuteRow = row(MINUTE_ROW, minute, 0, 59, "minute");
+        int hourRow = row(HOUR_ROW, hour, 0, 23, "hour");
+        int dayOfMonthRow = row(DAY_OF_MONTH_ROW, dayOfMonth, 1, 31, "day of month");
+        int monthRow = row(MONTH_ROW, month, 1, 12, "month");
+        int dayOfWeekRow = row(DAY_OF_WEEK_ROW, dayOfWeek, 0, 6, "day of week");
+
+        long[] due = new long[BLOCK_WORDS];
+        for (int from = 0; ; from += BLOCK_WORDS) {
+            long stamp = lock.tryOptimisticRead();
+            int words = collectDue(postings, from, due, minuteRow, hourRow, dayOfMonthRow, monthRow, dayOfWeekRow);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    words = collectDue(postings, from, due, minuteRow, hourRow, dayOfMonthRow, monthRow, dayOfWeekRow);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (words <= 0) {
+                return;
+            }
+            for (int i = 0; i < words; i++) {
+                long bits = due[i];
+                while (bits != 0) {
+                    action.accept(((from + i) << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the due set for words {@code [from, from + due.length)} into {@code due}.
+     *
+     * @return Number of words evaluated, 0 past the end of the index.
+     */
+    private static int collectDue(long[][] rows, int from, long[] due, int minuteRow, int hourRow, int dayOfMonthRow,
+                                  int monthRow, int dayOfWeekRow) {
+        int words = Math.min(due.length, rows[0].length - from);
+        long[] minutes = rows[minuteRow];
+        long[] hours = rows[hourRow];
+        long[] daysOfMonth = rows[dayOfMonthRow];
+        long[] months = rows[monthRow];
+        long[] daysOfWeek = rows[dayOfWeekRow];
+        long[] bothRestricted = rows[BOTH_RESTRICTED_ROW];
+        for (int i = 0; i < words; i++) {
+            int word = from + i;
+            long dayOfMonth = daysOfMonth[word];
+            long dayOfWeek = daysOfWeek[word];
+            long day = dayOfMonth & dayOfWeek | bothRestricted[word] & (dayOfMonth | dayOfWeek);
+            due[i] = minutes[word] & hours[word] & months[word] & day;
+        }
+        return Math.max(words, 0);
+    }
+
+    private static void setBits(long[][] rows, int firstRow, long valueBits, int minValue, int count, int word,
+                                long bit) {
+        for (int value = minValue; value < minValue + count; value++) {
+            if ((valueBits & (1L << value)) != 0) {
+                rows[firstRow + value - minValue][word] |= bit;
+            }
+        }
+    }
+
+    private static void clear(long[][] rows, int word, long bit) {
+        for (long[] row : rows) {
+            row[word] &= ~bit;
+        }
+    }
+
+    private long[][] grow(long[][] rows, int minWords) {
+        int words = Math.max(minWords, rows[0].length * 2);
+        long[][] grown = new long[ROWS][];
+        for (int row = 0; row < ROWS; row++) {
+            grown[row] = Arrays.copyOf(rows[row], words);
+        }
+        postings = grown;
+        return grown;
+    }
+
+    private static int row(int firstRow, int value, int min, int max, String field) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+        return firstRow + value - min;
+    }
+}
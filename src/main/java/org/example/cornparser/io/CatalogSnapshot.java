@@ -0,0 +1,224 @@
+package org.example.cornparser.io;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary snapshot of a parsed catalog, written once after a parse and memory-mapped on later starts, so a
+ * restart maps the file instead of re-parsing every line. Opening a snapshot only checks its header. Records
+ * are decoded when they are accessed, and each command string is decoded once and then cached.
+ * <p>
+ * File layout (little-endian):
+ * <pre>
+ * header   magic "CRNS", format version, record count, command count        4 x 4 bytes
+ * records  {@link ScheduleCodec} schedule + command index                   24 bytes each
+ * offsets  start of each command in the string data, plus the end offset     4 bytes each
+ * strings  UTF-8 command text, each distinct command stored once
+ * </pre>
+ * A snapshot is immutable once written and safe to read from any number of threads.
+ */
+public final class CatalogSnapshot {
+    /** Size of one record in bytes: the encoded schedule followed by the command index. */
+    public static final int RECORD_BYTES = ScheduleCodec.SCHEDULE_BYTES + 4;
+
+    private static final int MAGIC = 0x534E5243;  // "CRNS" read little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int commandCount;
+    private final int offsetsStart;
+    private final int stringsStart;
+    private final String[] commands;  // Decoded on first access; racing decodes produce equal strings
+
+    private CatalogSnapshot(ByteBuffer buffer, int size, int commandCount) {
+        this.buffer = buffer;
+        this.size = size;
+        this.commandCount = commandCount;
+        this.offsetsStart = HEADER_BYTES + size * RECORD_BYTES;
+        this.stringsStart = offsetsStart + (commandCount + 1) * 4;
+        this.commands = new String[commandCount];
+    }
+
+    /**
+     * Writes a snapshot of the given expressions. The file is written next to its destination and then moved into
+     * place, so a reader never maps a half-written snapshot.
+     *
+     * @param file        Destination file, replaced if it exists.
+     * @param expressions Expressions in the order they are to be read back.
+     * @throws IOException if the file cannot be written or the snapshot would exceed 2 GiB.
+     */
+    public static void write(Path file, List<CronExpression> expressions) throws IOException {
+        Map<String, Integer> commandIndexes = new HashMap<>();
+        List<byte[]> commandBytes = new ArrayList<>();
+        int[] recordCommands = new int[expressions.size()];
+        long stringBytes = 0;
+        for (int i = 0; i < expressions.size(); i++) {
+            String command = expressions.get(i).getCommand();
+            Integer index = commandIndexes.get(command);
+            if (index == null) {
+                index = commandBytes.size();
+                commandIndexes.put(command, index);
+                byte[] bytes = command.getBytes(StandardCharsets.UTF_8);
+                commandBytes.add(bytes);
+                stringBytes += bytes.length;
+            }
+            recordCommands[i] = index;
+        }
+
+        long total = HEADER_BYTES + (long) expressions.size() * RECORD_BYTES + (commandBytes.size() + 1L) * 4
+                + stringBytes;
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + expressions.size() + " expressions exceeds the maximum size");
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) total).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(expressions.size()).putInt(commandBytes.size());
+        for (int i = 0; i < expressions.size(); i++) {
+            int offset = HEADER_BYTES + i * RECORD_BYTES;
+            ScheduleCodec.encode(expressions.get(i).getSchedule(), out, offset);
+            out.putInt(offset + ScheduleCodec.SCHEDULE_BYTES, recordCommands[i]);
+        }
+        out.position(HEADER_BYTES + expressions.size() * RECORD_BYTES);
+        int stringOffset = 0;
+        for (byte[] bytes : commandBytes) {
+            out.putInt(stringOffset);
+            stringOffset += bytes.length;
+        }
+        out.putInt(stringOffset);
+        for (byte[] bytes : commandBytes) {
+            out.put(bytes);
+        }
+        out.flip();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps a snapshot. Only the header is read and checked against the file size; records and commands are
+     * decoded when they are accessed.
+     *
+     * @param file A file written by {@link #write(Path, List)}.
+     * @return The mapped snapshot.
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     */
+    public static CatalogSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Not a cron snapshot: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a cron snapshot: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported cron snapshot version " + buffer.getInt(4) + ": " + file);
+            }
+            int size = buffer.getInt(8);
+            int commandCount = buffer.getInt(12);
+            long stringsStart = HEADER_BYTES + (long) size * RECORD_BYTES + (commandCount + 1L) * 4;
+            if (size < 0 || commandCount < 0 || stringsStart > fileSize
+                    || stringsStart + buffer.getInt((int) stringsStart - 4) != fileSize) {
+                throw new IOException("Truncated or damaged cron snapshot: " + file);
+            }
+            return new CatalogSnapshot(buffer, size, commandCount);
+        }
+    }
+
+    /**
+     * @return Number of expressions in the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of distinct commands in the string table.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Decodes the expression at the given position.
+     *
+     * @param index Position in the order the expressions were written.
+     * @return The decoded expression.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public CronExpression get(int index) {
+        return new CronExpression(getSchedule(index), getCommand(index));
+    }
+
+    /**
+     * Decodes only the schedule of the expression at the given position.
+     *
+     * @param index Position in the order the expressions were written.
+     * @return The decoded schedule.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public CronSchedule getSchedule(int index) {
+        return ScheduleCodec.decode(buffer, recordOffset(index));
+    }
+
+    /**
+     * Returns the command of the expression at the given position, decoding it on first access.
+     *
+     * @param index Position in the order the expressions were written.
+     * @return The command.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public String getCommand(int index) {
+        int commandIndex = buffer.getInt(recordOffset(index) + ScheduleCodec.SCHEDULE_BYTES);
+        if (commandIndex < 0 || commandIndex >= commandCount) {
+            throw new IllegalStateException("Record " + index + " refers to missing command " + commandIndex);
+        }
+        String command = commands[commandIndex];
+        if (command == null) {
+            int start = buffer.getInt(offsetsStart + commandIndex * 4);
+            int end = buffer.getInt(offsetsStart + commandIndex * 4 + 4);
+            if (start < 0 || end < start || stringsStart + end > buffer.limit()) {
+                throw new IllegalStateException("Command " + commandIndex + " has a damaged string offset");
+            }
+            byte[] bytes = new byte[end - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(stringsStart + start + i);
+            }
+            command = new String(bytes, StandardCharsets.UTF_8);
+            commands[commandIndex] = command;
+        }
+        return command;
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for snapshot of " + size);
+        }
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.cornparser.io;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.SinglePassCronParser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Loads crontab-style files (one cron expression per line) through memory-mapped NIO.
+ * The file is cut into chunks at newline boundaries and the chunks are parsed in parallel, while results are
+ * delivered on the calling thread in file order with their 1-based line numbers.
+ * Blank lines and lines starting with '#' are skipped, and a bad line is reported without aborting the load.
+ * <p>
+ * Only a bounded number of chunks is in flight at once, so heap use stays flat regardless of file size.
+ */
+public class CrontabFileLoader {
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;  // Bytes per chunk
+
+    private final ExecutorService executorService;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+
+    /**
+     * Creates a loader that parses on the common fork-join pool with 8 MiB chunks.
+     */
+    public CrontabFileLoader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a loader that parses on the given executor.
+     *
+     * @param executorService Executor running one task per chunk. It is not shut down by the loader.
+     * @param chunkSize       Target chunk size in bytes; chunks grow to hold lines longer than this.
+     */
+    public CrontabFileLoader(ExecutorService executorService, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.executorService = executorService;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    /**
+     * Loads a crontab file, streaming each parsed expression and each bad line to the given consumers.
+     * Both consumers are called on the calling thread, in file order.
+     *
+     * @param file        The crontab file (UTF-8 or ASCII).
+     * @param expressions Receives each parsed expression with its line number.
+     * @param errors      Receives each line that failed to parse.
+     * @return Totals for the load.
+     * @throws IOException if the file cannot be read or the load is interrupted.
+     */
+    public LoadSummary load(Path file, ObjLongConsumer<CronExpression> expressions, Consumer<LineError> errors)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ArrayDeque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+            long lines = 0;
+            long parsed = 0;
+            long failed = 0;
+            long position = 0;
+            try {
+                while (position < size || !inFlight.isEmpty()) {
+                    // Keep the pipeline full, then deliver the oldest chunk so output stays in file order.
+                    while (position < size && inFlight.size() < maxChunksInFlight) {
+                        MappedByteBuffer chunk = mapChunk(channel, position, size);
+                        position += chunk.limit();
+                        inFlight.add(executorService.submit(() -> parseChunk(chunk)));
+                    }
+                    ChunkResult result = inFlight.poll().get();
+                    for (int i = 0; i < result.expressions.size(); i++) {
+                        expressions.accept(result.expressions.get(i), lines + result.expressionLines[i]);
+                    }
+                    for (LineError error : result.errors) {
+                        errors.accept(new LineError(lines + error.getLineNumber(), error.getLine(), error.getMessage()));
+                    }
+                    lines += result.lineCount;
+                    parsed += result.expressions.size();
+                    failed += result.errors.size();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while loading " + file);
+            } catch (ExecutionException e) {
+                throw new IOException("Failed to parse " + file, e.getCause());
+            } finally {
+                for (Future<ChunkResult> pending : inFlight) {
+                    pending.cancel(true);
+                }
+            }
+            return new LoadSummary(lines, parsed, failed);
+        }
+    }
+
+    /**
+     * Maps the next chunk starting at {@code position}, ending just after the last newline in the window.
+     * The window doubles until it holds a complete line, or runs to the end of the file.
+     */
+    private MappedByteBuffer mapChunk(FileChannel channel, long position, long size) throws IOException {
+        long window = chunkSize;
+        while (true) {
+            long length = Math.min(window, size - position);
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Line at byte " + position + " exceeds the maximum mappable size");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return buffer;
+            }
+            for (int i = (int) length - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    buffer.limit(i + 1);
+                    return buffer;
+                }
+            }
+            window *= 2;
+        }
+    }
+
+    /**
+     * Parses every line of a chunk; line numbers in the result are relative to the chunk (1-based).
+     */
+    private static ChunkResult parseChunk(ByteBuffer chunk) {
+        SinglePassCronParser parser = new SinglePassCronParser();
+        AsciiCharSequence ascii = new AsciiCharSequence();
+        ChunkResult result = new ChunkResult();
+        int limit = chunk.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            boolean isAscii = true;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                isAscii &= chunk.get(lineEnd) >= 0;
+                lineEnd++;
+            }
+            result.lineCount++;
+
+            int contentEnd = lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            int contentStart = lineStart;
+            while (contentStart < contentEnd && (chunk.get(contentStart) & 0xFF) <= ' ') {
+                contentStart++;
+            }
+            if (contentStart < contentEnd && chunk.get(contentStart) != '#') {
+                try {
+                    CharSequence line = isAscii
+                            ? ascii.reset(chunk, contentStart, contentEnd - contentStart)
+                            : decode(chunk, contentStart, contentEnd);
+                    result.add(parser.parse(line));
+                } catch (IllegalArgumentException e) {
+                    result.errors.add(new LineError(result.lineCount, decode(chunk, lineStart, contentEnd),
+                            e.getMessage()));
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    private static String decode(ByteBuffer chunk, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = chunk.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parsed content of one chunk, waiting to be delivered in order.
+     */
+    private static final class ChunkResult {
+        private final List<CronExpression> expressions = new ArrayList<>();
+        private final List<LineError> errors = new ArrayList<>();
+        private int[] expressionLines = new int[256];  // Line number of each expression, without boxing
+        private int lineCount;
+
+        private void add(CronExpression expression) {
+            if (expressions.size() == expressionLines.length) {
+                expressionLines = Arrays.copyOf(expressionLines, expressionLines.length * 2);
+            }
+            expressionLines[expressions.size()] = lineCount;
+            expressions.add(expression);
+        }
+    }
+}
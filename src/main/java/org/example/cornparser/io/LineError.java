@@ -0,0 +1,13 @@
+package org.example.cornparser.io;
+
+import lombok.Data;
+
+/**
+ * A crontab line that could not be parsed, with its 1-based line number.
+ */
+@Data
+public class LineError {
+    private final long lineNumber;
+    private final String line;
+    private final String message;
+}
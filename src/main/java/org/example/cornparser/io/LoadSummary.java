@@ -0,0 +1,13 @@
+package org.example.cornparser.io;
+
+import lombok.Data;
+
+/**
+ * Totals for one crontab file load.
+ */
+@Data
+public class LoadSummary {
+    private final long lines;
+    private final long expressions;
+    private final long errors;
+}
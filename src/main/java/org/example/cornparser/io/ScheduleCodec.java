@@ -0,0 +1,86 @@
+package org.example.cornparser.io;
+
+import org.example.cornparser.model.CronSchedule;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width binary encoding of a {@link CronSchedule}: the field bitmasks written as they are held in memory,
+ * so encoding and decoding are plain stores and loads with no parsing.
+ * <pre>
+ * offset  size  field
+ *      0     8  minute bits (0-59)
+ *      8     4  hour bits (0-23)
+ *     12     4  day-of-month bits (1-31)
+ *     16     2  month bits (1-12)
+ *     18     1  day-of-week bits (0-6)
+ *     19     1  reserved, written as 0
+ * </pre>
+ * Multi-byte values use the byte order of the buffer.
+ */
+public final class ScheduleCodec {
+    /** Encoded size of one schedule in bytes. */
+    public static final int SCHEDULE_BYTES = 20;
+
+    private static final long MINUTE_MASK = (1L << 60) - 1;
+    private static final int HOUR_MASK = (1 << 24) - 1;
+    private static final int DAY_OF_MONTH_MASK = 0xFFFFFFFE;
+    private static final int MONTH_MASK = 0x1FFE;
+    private static final int DAY_OF_WEEK_MASK = 0x7F;
+
+    private ScheduleCodec() {
+    }
+
+    /**
+     * Writes a schedule at the given absolute position, leaving the buffer's position unchanged.
+     *
+     * @param schedule The schedule to encode.
+     * @param buffer   Destination buffer.
+     * @param offset   Absolute position of the first byte.
+     */
+    public static void encode(CronSchedule schedule, ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, schedule.getMinuteBits());
+        buffer.putInt(offset + 8, schedule.getHourBits());
+        buffer.putInt(offset + 12, schedule.getDayOfMonthBits());
+        buffer.putShort(offset + 16, (short) schedule.getMonthBits());
+        buffer.put(offset + 18, schedule.getDayOfWeekBits());
+        buffer.put(offset + 19, (byte) 0);
+    }
+
+    /**
+     * Reads a schedule from the given absolute position, leaving the buffer's position unchanged.
+     * Bits outside each field's range are dropped, so a damaged record cannot produce out-of-range values.
+     *
+     * @param buffer Source buffer.
+     * @param offset Absolute position of the first byte.
+     * @return The decoded schedule.
+     */
+    public static CronSchedule decode(ByteBuffer buffer, int offset) {
+        return new CronSchedule(
+                minuteBits(buffer, offset),
+                hourBits(buffer, offset),
+                dayOfMonthBits(buffer, offset),
+                monthBits(buffer, offset),
+                dayOfWeekBits(buffer, offset));
+    }
+
+    static long minuteBits(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset) & MINUTE_MASK;
+    }
+
+    static int hourBits(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 8) & HOUR_MASK;
+    }
+
+    static int dayOfMonthBits(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 12) & DAY_OF_MONTH_MASK;
+    }
+
+    static int monthBits(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset + 16) & MONTH_MASK;
+    }
+
+    static byte dayOfWeekBits(ByteBuffer buffer, int offset) {
+        return (byte) (buffer.get(offset + 18) & DAY_OF_WEEK_MASK);
+    }
+}
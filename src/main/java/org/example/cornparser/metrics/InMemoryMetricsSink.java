@@ -0,0 +1,133 @@
+package org.example.cornparser.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sink that keeps everything in memory for a scraper or a test to read. Safe for concurrent recording and reading;
+ * values only grow until the sink is discarded.
+ */
+public class InMemoryMetricsSink implements MetricsSink {
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LongAdder parseFailures = new LongAdder();
+    private final Map<String, LatencyHistogram> fieldLatency = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> validationFailures = new ConcurrentHashMap<>();
+    private final LatencyHistogram taskWait = new LatencyHistogram();
+    private final LatencyHistogram taskRun = new LatencyHistogram();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private volatile int queueDepth;
+    private volatile int activeThreads;
+
+    @Override
+    public void recordParse(long nanos, boolean success) {
+        parseLatency.record(nanos);
+        if (!success) {
+            parseFailures.increment();
+        }
+    }
+
+    @Override
+    public void recordFieldParse(String field, long nanos) {
+        fieldLatency.computeIfAbsent(field, name -> new LatencyHistogram()).record(nanos);
+    }
+
+    @Override
+    public void recordValidationFailure(String field) {
+        validationFailures.computeIfAbsent(field, name -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordExecutorState(int queueDepth, int activeThreads) {
+        this.queueDepth = queueDepth;
+        this.activeThreads = activeThreads;
+        maxQueueDepth.accumulate(queueDepth);
+    }
+
+    @Override
+    public void recordTask(long waitNanos, long runNanos) {
+        taskWait.record(waitNanos);
+        taskRun.record(runNanos);
+    }
+
+    @Override
+    public void recordRejection() {
+        rejections.increment();
+    }
+
+    /**
+     * @return Latency of whole-expression parses, successful or not, in nanoseconds.
+     */
+    public LatencyHistogram getParseLatency() {
+        return parseLatency;
+    }
+
+    /**
+     * @return Number of rejected expressions.
+     */
+    public long getParseFailureCount() {
+        return parseFailures.sum();
+    }
+
+    /**
+     * @return Per-field parse cost in nanoseconds; an empty histogram if the field was never recorded.
+     */
+    public LatencyHistogram getFieldParseLatency(String field) {
+        LatencyHistogram histogram = fieldLatency.get(field);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    /**
+     * @return Snapshot of validation failure counts by field name, sorted by name.
+     */
+    public Map<String, Long> getValidationFailures() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        validationFailures.forEach((field, count) -> snapshot.put(field, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return Queue depth at the latest sample.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return Largest queue depth sampled so far.
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * @return Active thread count at the latest sample.
+     */
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+
+    /**
+     * @return Time tasks waited in the executor before starting, in nanoseconds.
+     */
+    public LatencyHistogram getTaskWaitTime() {
+        return taskWait;
+    }
+
+    /**
+     * @return Time tasks spent running, in nanoseconds.
+     */
+    public LatencyHistogram getTaskRunTime() {
+        return taskRun;
+    }
+
+    /**
+     * @return Number of tasks the executor refused.
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+}
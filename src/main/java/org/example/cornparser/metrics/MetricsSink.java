@@ -0,0 +1,76 @@
+package org.example.cornparser.metrics;
+
+/**
+ * Instrumentation hooks for the parsers and {@code ConcurrentCronParser}. Implementations must be thread-safe and
+ * cheap, since they are called on the parsing hot path. Every hook defaults to doing nothing, so a sink only
+ * overrides what it cares about.
+ * <p>
+ * Instrumented code checks {@link #isEnabled()} before reading the clock, so the {@link #noop()} sink costs a
+ * single predictable branch.
+ */
+public interface MetricsSink {
+
+    /**
+     * @return The shared sink that records nothing.
+     */
+    static MetricsSink noop() {
+        return NoopMetricsSink.INSTANCE;
+    }
+
+    /**
+     * @return False if callers may skip timing and calling the sink altogether.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records one whole-expression parse.
+     *
+     * @param nanos   Time spent parsing.
+     * @param success False if the expression was rejected.
+     */
+    default void recordParse(long nanos, boolean success) {
+    }
+
+    /**
+     * Records the time spent validating and expanding one field.
+     *
+     * @param field Field name: "minute", "hour", "day of month", "month" or "day of week".
+     * @param nanos Time spent on the field.
+     */
+    default void recordFieldParse(String field, long nanos) {
+    }
+
+    /**
+     * Records an expression rejected because of the given field.
+     *
+     * @param field Field name, as for {@link #recordFieldParse}.
+     */
+    default void recordValidationFailure(String field) {
+    }
+
+    /**
+     * Records a sample of executor load, taken when work is submitted.
+     *
+     * @param queueDepth    Tasks waiting in the executor's queue.
+     * @param activeThreads Threads currently running tasks.
+     */
+    default void recordExecutorState(int queueDepth, int activeThreads) {
+    }
+
+    /**
+     * Records one executed task.
+     *
+     * @param waitNanos Time from submission until the task started.
+     * @param runNanos  Time the task ran.
+     */
+    default void recordTask(long waitNanos, long runNanos) {
+    }
+
+    /**
+     * Records a task the executor refused.
+     */
+    default void recordRejection() {
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.cornparser.metrics;
+
+/**
+ * Sink that records nothing and tells callers not to bother timing.
+ */
+final class NoopMetricsSink implements MetricsSink {
+    static final NoopMetricsSink INSTANCE = new NoopMetricsSink();
+
+    private NoopMetricsSink() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
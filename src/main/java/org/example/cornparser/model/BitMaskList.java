@@ -0,0 +1,112 @@
+package org.example.cornparser.model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only {@link java.util.List} view over a cron field bitmask, where bit {@code i} set means value {@code i} is present.
+ * Values are reported in ascending order. The view is created on demand and holds nothing but the mask.
+ */
+public final class BitMaskList extends AbstractList<Integer> {
+    private final long bits;
+
+    /**
+     * Creates a view over the given bitmask.
+     *
+     * @param bits Bitmask of field values (bit i set means value i is present).
+     */
+    public BitMaskList(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Converts a collection of field values into a bitmask.
+     *
+     * @param values Values between 0 and 63.
+     * @return Bitmask with one bit set per value.
+     * @throws IllegalArgumentException if a value does not fit in the mask.
+     */
+    public static long toBits(Collection<Integer> values) {
+        return toBits(values, 0, 63);
+    }
+
+    /**
+     * Converts a collection of field values into a bitmask, checking them against the field's range.
+     *
+     * @param values Values between {@code min} and {@code max}.
+     * @param min    Smallest value allowed, at least 0.
+     * @param max    Largest value allowed, at most 63.
+     * @return Bitmask with one bit set per value.
+     * @throws IllegalArgumentException if a value is outside the range.
+     */
+    public static long toBits(Collection<Integer> values, int min, int max) {
+        long bits = 0L;
+        for (int value : values) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException("Value out of range " + min + "-" + max + ": " + value);
+            }
+            bits |= 1L << value;
+        }
+        return bits;
+    }
+
+    /**
+     * Returns a bitmask with every value between {@code from} and {@code to} (inclusive) set.
+     */
+    public static long range(int from, int to) {
+        return (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        long remaining = bits;
+        for (int i = 0; i < index && remaining != 0; i++) {
+            remaining &= remaining - 1;  // Drop the lowest set bit
+        }
+        if (remaining == 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return Long.numberOfTrailingZeros(remaining);
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Integer)) {
+            return false;
+        }
+        int value = (Integer) o;
+        return value >= 0 && value < 64 && (bits & (1L << value)) != 0;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private long remaining = bits;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int value = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return value;
+            }
+        };
+    }
+}
@@ -1,21 +1,49 @@
 package org.example.cornparser.model;
 
 import lombok.Data;
+import org.example.cornparser.time.ExecutionTimeCalculator;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Represents a parsed cron expression with individual time fields and command.
+ * The time fields live in a {@link CronSchedule}, which may be shared by expressions with equal schedules.
  */
 @Data
 public class CronExpression {
-    private final List<Integer> minutes;
-    private final List<Integer> hours;
-    private final List<Integer> daysOfMonth;
-    private final List<Integer> months;
-    private final List<Integer> daysOfWeek;
+    private final CronSchedule schedule;
     private final String command;
 
+    /**
+     * Constructs a CronExpression from a (possibly shared) schedule.
+     *
+     * @param schedule The parsed schedule.
+     * @param command  The command to be executed.
+     */
+    public CronExpression(CronSchedule schedule, String command) {
+        this.schedule = schedule;
+        this.command = command.trim(); // Trim to remove leading/trailing spaces
+    }
+
+    /**
+     * Constructs a CronExpression from field bitmasks.
+     *
+     * @param minuteBits     Bitmask of minutes (bits 0-59).
+     * @param hourBits       Bitmask of hours (bits 0-23).
+     * @param dayOfMonthBits Bitmask of days of the month (bits 1-31).
+     * @param monthBits      Bitmask of months (bits 1-12).
+     * @param dayOfWeekBits  Bitmask of days of the week (bits 0-6, 0 = Sunday).
+     * @param command        The command to be executed.
+     */
+    public CronExpression(long minuteBits, int hourBits, int dayOfMonthBits, int monthBits, byte dayOfWeekBits,
+                          String command) {
+        this(new CronSchedule(minuteBits, hourBits, dayOfMonthBits, monthBits, dayOfWeekBits), command);
+    }
+
     /**
      * Constructs a CronExpression with parsed values.
      *
@@ -25,27 +53,188 @@ public class CronExpression {
      * @param months      List of months parsed from cron expression.
      * @param daysOfWeek  List of days of the week parsed from cron expression.
      * @param command     The command to be executed.
-     * @throws IllegalArgumentException if any list is null or empty, or if command is invalid.
+     * @throws IllegalArgumentException if a value is outside its field's range.
      */
     public CronExpression(List<Integer> minutes, List<Integer> hours, List<Integer> daysOfMonth,
                           List<Integer> months, List<Integer> daysOfWeek, String command) {
-        this.minutes = minutes;
-        this.hours = hours;
-        this.daysOfMonth = daysOfMonth;
-        this.months = months;
-        this.daysOfWeek = daysOfWeek;
-        this.command = command.trim(); // Trim to remove leading/trailing spaces
+        this(BitMaskList.toBits(minutes, 0, 59), (int) BitMaskList.toBits(hours, 0, 23),
+                (int) BitMaskList.toBits(daysOfMonth, 1, 31), (int) BitMaskList.toBits(months, 1, 12),
+                (byte) BitMaskList.toBits(daysOfWeek, 0, 6), command);
+    }
+
+    /** @return Bitmask of minutes (bits 0-59). */
+    public long getMinuteBits() {
+        return schedule.getMinuteBits();
+    }
+
+    /** @return Bitmask of hours (bits 0-23). */
+    public int getHourBits() {
+        return schedule.getHourBits();
+    }
+
+    /** @return Bitmask of days of the month (bits 1-31). */
+    public int getDayOfMonthBits() {
+        return schedule.getDayOfMonthBits();
+    }
+
+    /** @return Bitmask of months (bits 1-12). */
+    public int getMonthBits() {
+        return schedule.getMonthBits();
+    }
+
+    /** @return Bitmask of days of the week (bits 0-6, 0 = Sunday). */
+    public byte getDayOfWeekBits() {
+        return schedule.getDayOfWeekBits();
+    }
+
+    /**
+     * @return Minutes as an ascending list view over the minute bitmask.
+     */
+    public List<Integer> getMinutes() {
+        return schedule.getMinutes();
+    }
+
+    /**
+     * @return Hours as an ascending list view over the hour bitmask.
+     */
+    public List<Integer> getHours() {
+        return schedule.getHours();
+    }
+
+    /**
+     * @return Days of the month as an ascending list view over the day-of-month bitmask.
+     */
+    public List<Integer> getDaysOfMonth() {
+        return schedule.getDaysOfMonth();
+    }
+
+    /**
+     * @return Months as an ascending list view over the month bitmask.
+     */
+    public List<Integer> getMonths() {
+        return schedule.getMonths();
+    }
+
+    /**
+     * @return Days of the week as an ascending list view over the day-of-week bitmask.
+     */
+    public List<Integer> getDaysOfWeek() {
+        return schedule.getDaysOfWeek();
+    }
+
+    /**
+     * Renders the expression with its schedule in canonical form, so equivalent expressions render identically.
+     *
+     * @return Canonical schedule followed by the command.
+     * @see CronSchedule#toCanonicalString()
+     */
+    public String toCanonicalString() {
+        return schedule.toCanonicalString() + " " + command;
+    }
+
+    /**
+     * Returns the first time this expression fires strictly after the given instant.
+     *
+     * @param from Instant to search from (exclusive).
+     * @param zone Time zone the expression is evaluated in.
+     * @return Next fire time, or null if the expression never fires.
+     */
+    public Instant nextExecution(Instant from, ZoneId zone) {
+        return schedule.nextExecution(from, zone);
+    }
+
+    /**
+     * Returns the last time this expression fired strictly before the given instant.
+     *
+     * @param from Instant to search from (exclusive).
+     * @param zone Time zone the expression is evaluated in.
+     * @return Previous fire time, or null if the expression never fired.
+     */
+    public Instant previousExecution(Instant from, ZoneId zone) {
+        return schedule.previousExecution(from, zone);
+    }
+
+    /**
+     * Allocation-free variant of {@link #nextExecution(Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Milliseconds since the epoch to search from (exclusive).
+     * @param zone           Time zone the expression is evaluated in.
+     * @return Next fire time in epoch milliseconds, or {@link ExecutionTimeCalculator#NO_EXECUTION}.
+     */
+    public long nextExecution(long fromEpochMilli, ZoneId zone) {
+        return schedule.nextExecution(fromEpochMilli, zone);
+    }
+
+    /**
+     * Allocation-free variant of {@link #previousExecution(Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Milliseconds since the epoch to search from (exclusive).
+     * @param zone           Time zone the expression is evaluated in.
+     * @return Previous fire time in epoch milliseconds, or {@link ExecutionTimeCalculator#NO_EXECUTION}.
+     */
+    public long previousExecution(long fromEpochMilli, ZoneId zone) {
+        return schedule.previousExecution(fromEpochMilli, zone);
+    }
+
+    /**
+     * Returns the fire times in {@code [from, to)} as a lazy, ordered stream.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to   End of the range (exclusive).
+     * @param zone Time zone the expression is evaluated in.
+     * @return Stream of fire times in ascending order.
+     * @see CronSchedule#fireTimes(Instant, Instant, ZoneId)
+     */
+    public Stream<Instant> fireTimes(Instant from, Instant to, ZoneId zone) {
+        return schedule.fireTimes(from, to, zone);
+    }
+
+    /**
+     * Primitive variant of {@link #fireTimes(Instant, Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Start of the range in milliseconds since the epoch (inclusive).
+     * @param toEpochMilli   End of the range in milliseconds since the epoch (exclusive).
+     * @param zone           Time zone the expression is evaluated in.
+     * @return Stream of fire times in epoch milliseconds, in ascending order.
+     */
+    public LongStream fireTimes(long fromEpochMilli, long toEpochMilli, ZoneId zone) {
+        return schedule.fireTimes(fromEpochMilli, toEpochMilli, zone);
+    }
+
+    /**
+     * Counts the fire times in {@code [from, to)} without enumerating them.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to   End of the range (exclusive).
+     * @param zone Time zone the expression is evaluated in.
+     * @return Number of fire times in the range.
+     * @see CronSchedule#countFirings(Instant, Instant, ZoneId)
+     */
+    public long countFirings(Instant from, Instant to, ZoneId zone) {
+        return schedule.countFirings(from, to, zone);
+    }
+
+    /**
+     * Allocation-free variant of {@link #countFirings(Instant, Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Start of the range in milliseconds since the epoch (inclusive).
+     * @param toEpochMilli   End of the range in milliseconds since the epoch (exclusive).
+     * @param zone           Time zone the expression is evaluated in.
+     * @return Number of fire times in the range.
+     */
+    public long countFirings(long fromEpochMilli, long toEpochMilli, ZoneId zone) {
+        return schedule.countFirings(fromEpochMilli, toEpochMilli, zone);
     }
 
     /**
      * Prints the parsed cron expression in a readable format.
      */
     public void printCronExpression() {
-        System.out.printf("%-14s%s%n", "minute", formatList(minutes));
-        System.out.printf("%-14s%s%n", "hour", formatList(hours));
-        System.out.printf("%-14s%s%n", "day of month", formatList(daysOfMonth));
-        System.out.printf("%-14s%s%n", "month", formatList(months));
-        System.out.printf("%-14s%s%n", "day of week", formatList(daysOfWeek));
+        System.out.printf("%-14s%s%n", "minute", formatList(getMinutes()));
+        System.out.printf("%-14s%s%n", "hour", formatList(getHours()));
+        System.out.printf("%-14s%s%n", "day of month", formatList(getDaysOfMonth()));
+        System.out.printf("%-14s%s%n", "month", formatList(getMonths()));
+        System.out.printf("%-14s%s%n", "day of week", formatList(getDaysOfWeek()));
         System.out.printf("%-14s%s%n", "command", command);
         System.out.println("****************************");
     }
@@ -0,0 +1,284 @@
+package org.example.cornparser.model;
+
+import lombok.Data;
+import org.example.cornparser.parser.CronFieldParser;
+import org.example.cornparser.time.ExecutionTimeCalculator;
+import org.example.cornparser.time.FireTimes;
+import org.example.cornparser.time.ZoneTransitions;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable schedule part of a cron expression (the five time fields), independent of the command.
+ * Each field is a primitive bitmask where bit {@code i} set means value {@code i} matches:
+ * minutes use bits 0-59, hours bits 0-23, days of month bits 1-31, months bits 1-12 and days of week bits 0-6.
+ * Equal schedules can be shared between any number of {@link CronExpression}s.
+ */
+@Data
+public final class CronSchedule {
+    private final long minuteBits;
+    private final int hourBits;
+    private final int dayOfMonthBits;
+    private final int monthBits;
+    private final byte dayOfWeekBits;
+
+    private static final int[] FIELD_MIN_VALUES = {0, 0, 1, 1, 0};
+    private static final int[] FIELD_MAX_VALUES = {59, 23, 31, 12, 6};
+
+    /**
+     * Constructs a CronSchedule from field bitmasks.
+     *
+     * @param minuteBits     Bitmask of minutes (bits 0-59).
+     * @param hourBits       Bitmask of hours (bits 0-23).
+     * @param dayOfMonthBits Bitmask of days of the month (bits 1-31).
+     * @param monthBits      Bitmask of months (bits 1-12).
+     * @param dayOfWeekBits  Bitmask of days of the week (bits 0-6, 0 = Sunday).
+     */
+    public CronSchedule(long minuteBits, int hourBits, int dayOfMonthBits, int monthBits, byte dayOfWeekBits) {
+        this.minuteBits = minuteBits;
+        this.hourBits = hourBits;
+        this.dayOfMonthBits = dayOfMonthBits;
+        this.monthBits = monthBits;
+        this.dayOfWeekBits = dayOfWeekBits;
+    }
+
+    /**
+     * @return Minutes as an ascending list view over the minute bitmask.
+     */
+    public List<Integer> getMinutes() {
+        return new BitMaskList(minuteBits);
+    }
+
+    /**
+     * @return Hours as an ascending list view over the hour bitmask.
+     */
+    public List<Integer> getHours() {
+        return new BitMaskList(hourBits & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return Days of the month as an ascending list view over the day-of-month bitmask.
+     */
+    public List<Integer> getDaysOfMonth() {
+        return new BitMaskList(dayOfMonthBits & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return Months as an ascending list view over the month bitmask.
+     */
+    public List<Integer> getMonths() {
+        return new BitMaskList(monthBits & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return Days of the week as an ascending list view over the day-of-week bitmask.
+     */
+    public List<Integer> getDaysOfWeek() {
+        return new BitMaskList(dayOfWeekBits & 0xFFL);
+    }
+
+    /**
+     * Returns the first time this schedule fires strictly after the given instant.
+     *
+     * @param from Instant to search from (exclusive).
+     * @param zone Time zone the schedule is evaluated in.
+     * @return Next fire time, or null if the schedule never fires.
+     */
+    public Instant nextExecution(Instant from, ZoneId zone) {
+        long next = ExecutionTimeCalculator.next(this, from.getEpochSecond(), ZoneTransitions.of(zone));
+        return next == ExecutionTimeCalculator.NO_EXECUTION ? null : Instant.ofEpochSecond(next);
+    }
+
+    /**
+     * Returns the last time this schedule fired strictly before the given instant.
+     *
+     * @param from Instant to search from (exclusive).
+     * @param zone Time zone the schedule is evaluated in.
+     * @return Previous fire time, or null if the schedule never fired.
+     */
+    public Instant previousExecution(Instant from, ZoneId zone) {
+        long seconds = from.getEpochSecond() + (from.getNano() > 0 ? 1 : 0);
+        long previous = ExecutionTimeCalculator.previous(this, seconds, ZoneTransitions.of(zone));
+        return previous == ExecutionTimeCalculator.NO_EXECUTION ? null : Instant.ofEpochSecond(previous);
+    }
+
+    /**
+     * Allocation-free variant of {@link #nextExecution(Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Milliseconds since the epoch to search from (exclusive).
+     * @param zone           Time zone the schedule is evaluated in.
+     * @return Next fire time in epoch milliseconds, or {@link ExecutionTimeCalculator#NO_EXECUTION}.
+     */
+    public long nextExecution(long fromEpochMilli, ZoneId zone) {
+        long next = ExecutionTimeCalculator.next(this, Math.floorDiv(fromEpochMilli, 1000L), ZoneTransitions.of(zone));
+        return next == ExecutionTimeCalculator.NO_EXECUTION ? next : next * 1000L;
+    }
+
+    /**
+     * Allocation-free variant of {@link #previousExecution(Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Milliseconds since the epoch to search from (exclusive).
+     * @param zone           Time zone the schedule is evaluated in.
+     * @return Previous fire time in epoch milliseconds, or {@link ExecutionTimeCalculator#NO_EXECUTION}.
+     */
+    public long previousExecution(long fromEpochMilli, ZoneId zone) {
+        long seconds = -Math.floorDiv(-fromEpochMilli, 1000L);  // Round up so fires inside the same second count
+        long previous = ExecutionTimeCalculator.previous(this, seconds, ZoneTransitions.of(zone));
+        return previous == ExecutionTimeCalculator.NO_EXECUTION ? previous : previous * 1000L;
+    }
+
+    /**
+     * Renders the schedule in canonical form: one fixed spelling per set of field values, which parses back to an
+     * equal schedule. Equivalent expressions such as {@code *}, {@code 0-59} and {@code *&#47;1}, or
+     * {@code 1,2,3,4,5} and {@code 1-5}, all render the same. Each field is written as the first form that fits:
+     * {@code *} for the whole range, a single value, a range {@code a-b}, a step {@code a/n} (or {@code *&#47;n})
+     * when at least three values run to the end of the range, and otherwise a list.
+     *
+     * @return Canonical schedule string, e.g. "*&#47;15 0 1,15 * 1-5".
+     * @throws IllegalStateException if a field has no values, which no cron syntax can express.
+     */
+    public String toCanonicalString() {
+        long[] fields = {minuteBits, hourBits & 0xFFFFFFFFL, dayOfMonthBits & 0xFFFFFFFFL,
+                monthBits & 0xFFFFFFFFL, dayOfWeekBits & 0xFFL};
+        StringBuilder canonical = new StringBuilder(32);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                canonical.append(' ');
+            }
+            appendCanonicalField(canonical, fields[i], FIELD_MIN_VALUES[i], FIELD_MAX_VALUES[i]);
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of the field values. Equal schedules have equal fingerprints however they were
+     * written. The value depends only on the field values, so it is stable across processes and can be persisted.
+     * Different schedules may still collide, so use {@link #equals(Object)} to decide identity.
+     *
+     * @return Fingerprint of the schedule.
+     */
+    public long fingerprint() {
+        long hash = CronFieldParser.mix(minuteBits & BitMaskList.range(0, 59));
+        hash = CronFieldParser.mix(hash ^ (hourBits & 0xFFFFFFL));
+        hash = CronFieldParser.mix(hash ^ (dayOfMonthBits & 0xFFFFFFFEL));
+        hash = CronFieldParser.mix(hash ^ (monthBits & 0x1FFEL));
+        return CronFieldParser.mix(hash ^ (dayOfWeekBits & 0x7FL));
+    }
+
+    /**
+     * Returns the fire times in {@code [from, to)} as a lazy, ordered stream: each fire time is computed only
+     * when the stream consumes it, so unbounded or very long ranges can be iterated with {@code limit} or
+     * {@code takeWhile}.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to   End of the range (exclusive).
+     * @param zone Time zone the schedule is evaluated in.
+     * @return Stream of fire times in ascending order.
+     */
+    public Stream<Instant> fireTimes(Instant from, Instant to, ZoneId zone) {
+        return fireTimeStream(ceilSeconds(from), ceilSeconds(to), zone).mapToObj(Instant::ofEpochSecond);
+    }
+
+    /**
+     * Primitive variant of {@link #fireTimes(Instant, Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Start of the range in milliseconds since the epoch (inclusive).
+     * @param toEpochMilli   End of the range in milliseconds since the epoch (exclusive).
+     * @param zone           Time zone the schedule is evaluated in.
+     * @return Stream of fire times in epoch milliseconds, in ascending order.
+     */
+    public LongStream fireTimes(long fromEpochMilli, long toEpochMilli, ZoneId zone) {
+        return fireTimeStream(-Math.floorDiv(-fromEpochMilli, 1000L), -Math.floorDiv(-toEpochMilli, 1000L), zone)
+                .map(seconds -> seconds * 1000L);
+    }
+
+    /**
+     * Counts the fire times in {@code [from, to)} without enumerating them. The result always equals
+     * {@code fireTimes(from, to, zone).count()}, but costs one step per month in the range rather than one per
+     * firing.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to   End of the range (exclusive).
+     * @param zone Time zone the schedule is evaluated in.
+     * @return Number of fire times in the range.
+     */
+    public long countFirings(Instant from, Instant to, ZoneId zone) {
+        return FireTimes.count(this, ceilSeconds(from), ceilSeconds(to), ZoneTransitions.of(zone));
+    }
+
+    /**
+     * Allocation-free variant of {@link #countFirings(Instant, Instant, ZoneId)} working on epoch milliseconds.
+     *
+     * @param fromEpochMilli Start of the range in milliseconds since the epoch (inclusive).
+     * @param toEpochMilli   End of the range in milliseconds since the epoch (exclusive).
+     * @param zone           Time zone the schedule is evaluated in.
+     * @return Number of fire times in the range.
+     */
+    public long countFirings(long fromEpochMilli, long toEpochMilli, ZoneId zone) {
+        return FireTimes.count(this, -Math.floorDiv(-fromEpochMilli, 1000L), -Math.floorDiv(-toEpochMilli, 1000L),
+                ZoneTransitions.of(zone));
+    }
+
+    private LongStream fireTimeStream(long fromEpochSecond, long toEpochSecond, ZoneId zone) {
+        PrimitiveIterator.OfLong iterator =
+                FireTimes.iterator(this, fromEpochSecond, toEpochSecond, ZoneTransitions.of(zone));
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED
+                | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+    }
+
+    private static long ceilSeconds(Instant instant) {
+        return instant.getEpochSecond() + (instant.getNano() > 0 ? 1 : 0);
+    }
+
+    private static void appendCanonicalField(StringBuilder out, long bits, int min, int max) {
+        long values = bits & BitMaskList.range(min, max);
+        if (values == 0) {
+            throw new IllegalStateException("Schedule field has no values: " + Long.toBinaryString(bits));
+        }
+        int first = Long.numberOfTrailingZeros(values);
+        int last = 63 - Long.numberOfLeadingZeros(values);
+        int count = Long.bitCount(values);
+        if (values == BitMaskList.range(min, max)) {
+            out.append('*');
+        } else if (count == 1) {
+            out.append(first);
+        } else if (values == BitMaskList.range(first, last)) {
+            out.append(first).append('-').append(last);
+        } else if (count >= 3 && isStepRun(values, first, max)) {
+            if (first == min) {
+                out.append('*');
+            } else {
+                out.append(first);
+            }
+            out.append('/').append(Long.numberOfTrailingZeros(values & ~(1L << first)) - first);
+        } else {
+            for (long remaining = values; remaining != 0; remaining &= remaining - 1) {
+                if (remaining != values) {
+                    out.append(',');
+                }
+                out.append(Long.numberOfTrailingZeros(remaining));
+            }
+        }
+    }
+
+    /**
+     * Returns true if the values are exactly {@code first, first + step, ...} up to {@code max}, as written "a/n".
+     */
+    private static boolean isStepRun(long values, int first, int max) {
+        int step = Long.numberOfTrailingZeros(values & ~(1L << first)) - first;
+        long expected = 0;
+        for (int value = first; value <= max; value += step) {
+            expected |= 1L << value;
+        }
+        return values == expected;
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.cornparser.parser;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in parser that memoizes the schedule part of cron expressions (the first five fields) in a bounded,
+ * concurrent LRU cache, keeping the command separate. Equal schedules are interned through a
+ * {@link ScheduleRegistry}, so expressions with the same field sets share a single immutable {@link CronSchedule}
+ * instance, even when written differently (e.g. "*" and "0-59").
+ */
+public class CachingCronParser implements CronParser {
+    private static final int EXPECTED_FIELDS = 6; // A valid cron expression must have exactly 6 fields.
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final DefaultCronParser delegate = new DefaultCronParser();
+    private final LruCache<String, CronSchedule> schedules;
+    private final ScheduleRegistry registry;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a caching parser holding up to 10,000 distinct schedules.
+     */
+    public CachingCronParser() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a caching parser.
+     *
+     * @param maximumSize Maximum number of distinct schedule strings (and interned schedules) kept in memory.
+     */
+    public CachingCronParser(int maximumSize) {
+        this(maximumSize, new ScheduleRegistry(maximumSize));
+    }
+
+    /**
+     * Creates a caching parser interning into a registry that may be shared with other parsers or loaders.
+     *
+     * @param maximumSize Maximum number of distinct schedule strings kept in memory.
+     * @param registry    Registry the parsed schedules are interned in.
+     */
+    public CachingCronParser(int maximumSize, ScheduleRegistry registry) {
+        this.schedules = new LruCache<>(maximumSize);
+        this.registry = registry;
+    }
+
+    /**
+     * Parses a cron expression string, reusing the cached schedule when the same schedule text was seen before.
+     * Schedules with hashed fields ("H") depend on the command and bypass the cache.
+     *
+     * @param cronExpression The input cron string.
+     * @return A CronExpression object containing parsed values.
+     * @throws IllegalArgumentException if the cron expression is invalid.
+     */
+    @Override
+    public CronExpression parse(String cronExpression) {
+        String line = cronExpression.trim();
+
+        // Locate the end of the fifth field and the command without splitting the whole line.
+        int fields = 0;
+        int scheduleEnd = 0;
+        int commandStart = 0;
+        int commandEnd = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int start = i;
+            while (i < line.length() && !isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            fields++;
+            if (fields == 5) {
+                scheduleEnd = i;
+            } else if (fields == 6) {
+                commandStart = start;
+                commandEnd = i;
+            }
+            while (i < line.length() && isWhitespace(line.charAt(i))) {
+                i++;
+            }
+        }
+        if (line.isEmpty()) {
+            fields = 1;  // Matches String.split, which yields one empty field
+        }
+        if (fields != EXPECTED_FIELDS) {
+            throw new IllegalArgumentException("Invalid cron expression: Expected 6 fields, found " + fields);
+        }
+
+        String key = line.substring(0, scheduleEnd);
+        if (key.indexOf('H') >= 0) {
+            // Hashed fields resolve per command, so the schedule text alone is not a valid cache key.
+            return registry.intern(delegate.parse(line));
+        }
+        CronSchedule schedule = schedules.get(key);
+        if (schedule != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            CronSchedule parsed = delegate.parseSchedule(key);
+            schedule = schedules.putIfAbsent(key, registry.intern(parsed));
+        }
+        return new CronExpression(schedule, line.substring(commandStart, commandEnd));
+    }
+
+    /**
+     * @return Number of parses served from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of parses that had to parse the schedule.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of distinct schedule strings currently cached.
+     */
+    public int getCachedScheduleCount() {
+        return schedules.size();
+    }
+
+    /**
+     * Matches the whitespace characters of the regex {@code \s}, which DefaultCronParser splits on.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -1,9 +1,16 @@
 package org.example.cornparser.parser;
 
-import java.util.ArrayList;
+import org.example.cornparser.model.BitMaskList;
+
 import java.util.List;
 
 public class CronFieldParser {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    /** Odd 64-bit constant (2^64 / golden ratio) for deriving well-spread seeds from consecutive values. */
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int HASHED_DAY_OF_MONTH_MAX = 28;  // Hashed days stay in every month, as in Jenkins
+
     private final int minValue;
     private final int maxValue;
 
@@ -22,17 +29,49 @@ public class CronFieldParser {
      * Supports: Wildcard (*), Step (/), Range (-), List (,), and Single values.
      *
      * @param field The cron field string.
-     * @return List of integers representing the parsed values.
+     * @return Ascending list view of the parsed values.
      * @throws IllegalArgumentException if the input format is invalid.
      */
     public List<Integer> parse(String field) {
-        List<Integer> values = new ArrayList<>();
+        return new BitMaskList(parseBits(field));
+    }
+
+    /**
+     * Parses a cron field string into a bitmask where bit {@code i} is set when value {@code i} matches.
+     * Supports: Wildcard (*), Step (/), Range (-), List (,), and Single values.
+     *
+     * @param field The cron field string.
+     * @return Bitmask of the parsed values.
+     * @throws IllegalArgumentException if the input format is invalid, or the field is hashed ("H"), which needs
+     *                                  a hash key: use {@link #parseBits(String, long)}.
+     */
+    public long parseBits(String field) {
+        if (field.startsWith("H")) {
+            throw new IllegalArgumentException("Hashed field needs a hash key: " + field);
+        }
+        return parseBits(field, 0L);
+    }
+
+    /**
+     * Parses a cron field string into a bitmask, additionally supporting Jenkins-style hashed values, which spread
+     * jobs evenly over the field instead of piling them up at its first value:
+     * "H" (one value), "H/n" (every n-th value from a hashed offset), "H(a-b)" (one value in a range) and
+     * "H(a-b)/n". The chosen values depend only on the hash, so a job always fires at the same times. Without a
+     * range, hashed days of the month stay within 1-28.
+     *
+     * @param field The cron field string.
+     * @param hash  Hash of the job's key, from {@link #hash(CharSequence)}.
+     * @return Bitmask of the parsed values.
+     * @throws IllegalArgumentException if the input format is invalid.
+     */
+    public long parseBits(String field, long hash) {
+        long values = 0L;
 
         try {
-            if (field.equals("*")) {  // Wildcard case (e.g., "*")
-                for (int i = minValue; i <= maxValue; i++) {
-                    values.add(i);
-                }
+            if (field.startsWith("H")) {  // Hashed case (e.g., "H", "H/15", "H(0-29)" or "H(0-29)/10")
+                values = parseHashed(field, hash);
+            } else if (field.equals("*")) {  // Wildcard case (e.g., "*")
+                values = BitMaskList.range(minValue, maxValue);
             } else if (field.contains("/")) {  // Step case (e.g., "*/15" or "5/10")
                 String[] parts = field.split("/");
                 if (parts.length != 2) {
@@ -50,7 +89,7 @@ public class CronFieldParser {
                 }
 
                 for (int i = start; i <= maxValue; i += step) {
-                    values.add(i);
+                    values |= 1L << i;
                 }
             } else if (field.contains("-")) {  // Range case (e.g., "1-5")
                 String[] parts = field.split("-");
@@ -65,9 +104,7 @@ public class CronFieldParser {
                     throw new IllegalArgumentException("Invalid range: " + start + "-" + end);
                 }
 
-                for (int i = start; i <= end; i++) {
-                    values.add(i);
-                }
+                values = BitMaskList.range(start, end);
             } else if (field.contains(",")) {  // List case (e.g., "1,3,5")
                 String[] parts = field.split(",");
                 for (String part : parts) {
@@ -75,14 +112,14 @@ public class CronFieldParser {
                     if (value < minValue || value > maxValue) {
                         throw new IllegalArgumentException("Value out of range: " + value);
                     }
-                    values.add(value);
+                    values |= 1L << value;
                 }
             } else {  // Single number case (e.g., "5")
                 int value = Integer.parseInt(field);
                 if (value < minValue || value > maxValue) {
                     throw new IllegalArgumentException("Value out of range: " + value);
                 }
-                values.add(value);
+                values |= 1L << value;
             }
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid number format in field: " + field, e);
@@ -92,4 +129,83 @@ public class CronFieldParser {
 
         return values;
     }
+
+    /**
+     * Hashes the key (typically the command, or a job name) that hashed fields spread on. The hash is stable
+     * across processes, so a job keeps its slot across restarts.
+     *
+     * @param key The job key.
+     * @return 64-bit hash of the key.
+     */
+    public static long hash(CharSequence key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer, which lets every input bit affect every output bit. Fingerprints, catalog keys
+     * and ring positions are built on it, so it must never change.
+     *
+     * @param hash The value to mix.
+     * @return The mixed value.
+     */
+    public static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Derives a value in {@code [0, bound)} from a key hash, salted by the field's range so the fields of one job
+     * get independent values.
+     */
+    static int spread(long hash, int minValue, int maxValue, int bound) {
+        long mixed = mix(hash ^ (long) (minValue << 8 | maxValue) * GOLDEN_GAMMA);
+        return (int) Math.floorMod(mixed, (long) bound);
+    }
+
+    /**
+     * Returns the largest value a hashed field without an explicit range can take: 28 for the day of month, so
+     * that hashed jobs run in every month, and the field's maximum otherwise.
+     */
+    static int hashedMaxValue(int minValue, int maxValue) {
+        return minValue == 1 && maxValue == 31 ? HASHED_DAY_OF_MONTH_MAX : maxValue;
+    }
+
+    private long parseHashed(String field, long hash) {
+        int start = minValue;
+        int end = hashedMaxValue(minValue, maxValue);
+        String rest = field.substring(1);
+        if (rest.startsWith("(")) {
+            int close = rest.indexOf(')');
+            String[] bounds = close < 0 ? new String[0] : rest.substring(1, close).split("-", -1);
+            if (bounds.length != 2) {
+                throw new IllegalArgumentException("Invalid hash range format: " + field);
+            }
+            start = Integer.parseInt(bounds[0]);
+            end = Integer.parseInt(bounds[1]);
+            if (start > end || start < minValue || end > maxValue) {
+                throw new IllegalArgumentException("Invalid hash range: " + start + "-" + end);
+            }
+            rest = rest.substring(close + 1);
+        }
+        if (rest.isEmpty()) {
+            return 1L << (start + spread(hash, minValue, maxValue, end - start + 1));
+        }
+        if (!rest.startsWith("/")) {
+            throw new IllegalArgumentException("Invalid hash format: " + field);
+        }
+        int step = Integer.parseInt(rest.substring(1));
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step value must be positive: " + step);
+        }
+        long values = 0L;
+        for (int i = start + spread(hash, minValue, maxValue, Math.min(step, end - start + 1)); i <= end; i += step) {
+            values |= 1L << i;
+        }
+        return values;
+    }
 }
@@ -1,17 +1,46 @@
 package org.example.cornparser.parser;
 
+import org.example.cornparser.metrics.MetricsSink;
 import org.example.cornparser.model.CronExpression;
-import java.util.List;
+import org.example.cornparser.model.CronSchedule;
 import java.util.Map;
 import java.util.regex.Pattern;
 import static org.example.cornparser.validation.CronValidator.validateCronField;
 
 public class DefaultCronParser implements CronParser {
     private static final int EXPECTED_FIELDS = 6; // A valid cron expression must have exactly 6 fields.
+    private static final int SCHEDULE_FIELDS = 5; // The schedule part is the first 5 fields.
 
+    private static final String[] FIELD_NAMES = {"minute", "hour", "day of month", "month", "day of week"};
+    private static final int[] MIN_VALUES = {0, 0, 1, 1, 0};
+    private static final int[] MAX_VALUES = {59, 23, 31, 12, 7}; // The validator also accepts 7 for Sunday
+    private static final CronFieldParser[] FIELD_PARSERS = {
+            new CronFieldParser(0, 59),
+            new CronFieldParser(0, 23),
+            new CronFieldParser(1, 31),
+            new CronFieldParser(1, 12),
+            new CronFieldParser(0, 6),
+    };
+
+    private final MetricsSink metrics;
+
+    /**
+     * Creates a parser without instrumentation.
+     */
+    public DefaultCronParser() {
+        this(MetricsSink.noop());
+    }
+
+    /**
+     * Creates a parser reporting parse latency, per-field cost and validation failures to the given sink.
+     */
+    public DefaultCronParser(MetricsSink metrics) {
+        this.metrics = metrics;
+    }
 
     /**
      * Parses a cron expression string and returns a CronExpression object.
+     * Hashed fields ("H") are spread on the command.
      *
      * @param cronExpression The input cron string.
      * @return A CronExpression object containing parsed values.
@@ -19,6 +48,34 @@ public class DefaultCronParser implements CronParser {
      */
     @Override
     public CronExpression parse(String cronExpression) {
+        return parse(cronExpression, null);
+    }
+
+    /**
+     * Parses a cron expression string, spreading hashed fields ("H") on the given job key instead of the command,
+     * so jobs running the same command still get different slots.
+     *
+     * @param cronExpression The input cron string.
+     * @param hashKey        Key hashed fields are spread on, or null to use the command.
+     * @return A CronExpression object containing parsed values.
+     * @throws IllegalArgumentException if the cron expression is invalid.
+     */
+    public CronExpression parse(String cronExpression, String hashKey) {
+        if (!metrics.isEnabled()) {
+            return parseExpression(cronExpression, hashKey);
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            CronExpression expression = parseExpression(cronExpression, hashKey);
+            success = true;
+            return expression;
+        } finally {
+            metrics.recordParse(System.nanoTime() - start, success);
+        }
+    }
+
+    private CronExpression parseExpression(String cronExpression, String hashKey) {
         // Split the cron expression into its individual fields.
         String[] parts = cronExpression.trim().split("\\s+");
 
@@ -27,31 +84,81 @@ public class DefaultCronParser implements CronParser {
             throw new IllegalArgumentException("Invalid cron expression: Expected 6 fields, found " + parts.length);
         }
 
-        // Validate each cron field based on its allowed range.
-        validateCronField(parts[0], 0, 59, "minute");
-        validateCronField(parts[1], 0, 23, "hour");
-        validateCronField(parts[2], 1, 31, "day of month");
-        validateCronField(parts[3], 1, 12, "month");
-        validateCronField(parts[4], 0, 7, "day of week");
-
-        // Create field parsers for each cron field.
-        CronFieldParser minuteParser = new CronFieldParser(0, 59);
-        CronFieldParser hourParser = new CronFieldParser(0, 23);
-        CronFieldParser dayOfMonthParser = new CronFieldParser(1, 31);
-        CronFieldParser monthParser = new CronFieldParser(1, 12);
-        CronFieldParser dayOfWeekParser = new CronFieldParser(0, 6);
-
-        // Parse the individual fields into lists of integers.
-        List<Integer> minutes = minuteParser.parse(parts[0]);
-        List<Integer> hours = hourParser.parse(parts[1]);
-        List<Integer> daysOfMonth = dayOfMonthParser.parse(parts[2]);
-        List<Integer> months = monthParser.parse(parts[3]);
-        List<Integer> daysOfWeek = dayOfWeekParser.parse(parts[4]);
-
         // Extract the command to be executed.
         String command = parts[5];
 
         // Return a CronExpression object containing the parsed values.
-        return new CronExpression(minutes, hours, daysOfMonth, months, daysOfWeek, command);
+        return new CronExpression(parseSchedule(parts, hashKey != null ? hashKey : command), command);
+    }
+
+    /**
+     * Parses the schedule part of a cron expression (the five time fields, without a command).
+     *
+     * @param schedule The input schedule string, e.g. "0 * * * *".
+     * @return A CronSchedule object containing parsed values.
+     * @throws IllegalArgumentException if the schedule is invalid or contains a hashed field ("H"), which needs
+     *                                  a hash key: use {@link #parseSchedule(String, String)}.
+     */
+    public CronSchedule parseSchedule(String schedule) {
+        return parseSchedule(schedule, null);
+    }
+
+    /**
+     * Parses the schedule part of a cron expression, spreading hashed fields ("H") on the given key.
+     *
+     * @param schedule The input schedule string, e.g. "H * * * *".
+     * @param hashKey  Key hashed fields are spread on, or null if the schedule has none.
+     * @return A CronSchedule object containing parsed values.
+     * @throws IllegalArgumentException if the schedule is invalid.
+     */
+    public CronSchedule parseSchedule(String schedule, String hashKey) {
+        String[] parts = schedule.trim().split("\\s+");
+
+        if (parts.length != SCHEDULE_FIELDS) {
+            throw new IllegalArgumentException("Invalid cron schedule: Expected 5 fields, found " + parts.length);
+        }
+        return parseSchedule(parts, hashKey);
+    }
+
+    /**
+     * Validates and parses the first five fields of the given parts into a CronSchedule.
+     * All fields are validated before any is parsed, so the first invalid field is the one reported.
+     */
+    private CronSchedule parseSchedule(String[] parts, String hashKey) {
+        boolean timed = metrics.isEnabled();
+        long[] nanos = timed ? new long[SCHEDULE_FIELDS] : null;
+
+        // Validate each cron field based on its allowed range.
+        for (int i = 0; i < SCHEDULE_FIELDS; i++) {
+            long start = timed ? System.nanoTime() : 0L;
+            try {
+                validateCronField(parts[i], MIN_VALUES[i], MAX_VALUES[i], FIELD_NAMES[i]);
+            } catch (IllegalArgumentException e) {
+                metrics.recordValidationFailure(FIELD_NAMES[i]);
+                throw e;
+            }
+            if (timed) {
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+
+        // Parse the individual fields into bitmasks.
+        long[] bits = new long[SCHEDULE_FIELDS];
+        for (int i = 0; i < SCHEDULE_FIELDS; i++) {
+            long start = timed ? System.nanoTime() : 0L;
+            try {
+                bits[i] = hashKey != null && parts[i].startsWith("H")
+                        ? FIELD_PARSERS[i].parseBits(parts[i], CronFieldParser.hash(hashKey))
+                        : FIELD_PARSERS[i].parseBits(parts[i]);
+            } catch (IllegalArgumentException e) {
+                metrics.recordValidationFailure(FIELD_NAMES[i]);
+                throw e;
+            }
+            if (timed) {
+                metrics.recordFieldParse(FIELD_NAMES[i], nanos[i] + System.nanoTime() - start);
+            }
+        }
+
+        return new CronSchedule(bits[0], (int) bits[1], (int) bits[2], (int) bits[3], (byte) bits[4]);
     }
 }
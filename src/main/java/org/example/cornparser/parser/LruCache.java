@@ -0,0 +1,85 @@
+package org.example.cornparser.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe LRU cache. Entries are spread over independently locked segments,
+ * each evicting its least recently used entry once it exceeds its share of the capacity.
+ */
+final class LruCache<K, V> {
+    private static final int SEGMENTS = 16;  // Must be a power of two
+
+    private final Segment<K, V>[] segments;
+
+    /**
+     * @param maximumSize Maximum number of entries kept across all segments.
+     */
+    @SuppressWarnings("unchecked")
+    LruCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        int segmentCapacity = (maximumSize - 1) / SEGMENTS + 1;  // Rounded up without overflowing at MAX_VALUE
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * @return The cached value, or null if absent. Marks the entry as recently used.
+     */
+    V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * Stores the value unless the key is already present.
+     *
+     * @return The value now associated with the key.
+     */
+    V putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V existing = segment.putIfAbsent(key, value);
+            return existing != null ? existing : value;
+        }
+    }
+
+    /**
+     * @return Current number of entries.
+     */
+    int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);  // Access order, so iteration starts at the least recently used entry
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
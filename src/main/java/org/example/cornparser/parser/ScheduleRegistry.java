@@ -0,0 +1,61 @@
+package org.example.cornparser.parser;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+
+/**
+ * Interning registry mapping every schedule to one shared {@link CronSchedule} instance per distinct set of
+ * field values. Schedules are compared by value, so equivalent spellings such as {@code 1,2,3,4,5} and
+ * {@code 1-5} collapse to the same instance. A catalog of many jobs then holds one schedule per distinct
+ * schedule, not one per job.
+ * <p>
+ * The registry is thread-safe. It can be bounded, in which case the least recently used schedules are dropped
+ * and later equivalent schedules intern to a new instance.
+ */
+public class ScheduleRegistry {
+    private final LruCache<CronSchedule, CronSchedule> schedules;
+
+    /**
+     * Creates an unbounded registry.
+     */
+    public ScheduleRegistry() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a registry holding at most the given number of distinct schedules.
+     *
+     * @param maximumSize Maximum number of distinct schedules kept.
+     */
+    public ScheduleRegistry(int maximumSize) {
+        this.schedules = new LruCache<>(maximumSize);
+    }
+
+    /**
+     * Returns the shared instance equal to the given schedule, registering it if none exists yet.
+     *
+     * @param schedule The schedule to intern.
+     * @return The shared instance.
+     */
+    public CronSchedule intern(CronSchedule schedule) {
+        return schedules.putIfAbsent(schedule, schedule);
+    }
+
+    /**
+     * Returns an expression with the same command whose schedule is the shared instance.
+     *
+     * @param expression The expression to intern.
+     * @return The given expression if it already uses the shared schedule, otherwise an equal copy that does.
+     */
+    public CronExpression intern(CronExpression expression) {
+        CronSchedule shared = intern(expression.getSchedule());
+        return shared == expression.getSchedule() ? expression : new CronExpression(shared, expression.getCommand());
+    }
+
+    /**
+     * @return Number of distinct schedules currently registered.
+     */
+    public int size() {
+        return schedules.size();
+    }
+}
@@ -0,0 +1,548 @@
+package org.example.cornparser.parser;
+
+import org.example.cornparser.metrics.MetricsSink;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+import org.example.cornparser.validation.ErrorCode;
+import org.example.cornparser.validation.ParseResult;
+
+/**
+ * Regex-free parser that validates and expands a cron expression in a single left-to-right walk over the input,
+ * using index arithmetic only: no {@code String.split}, no intermediate arrays and no substrings besides the
+ * command. Accepts any {@link CharSequence}, or a character range inside a larger buffer.
+ * <p>
+ * It accepts and rejects exactly the same inputs as {@link DefaultCronParser} (which combines
+ * {@code CronValidator} and {@link CronFieldParser}), including its tolerance for trailing separators
+ * such as "1-5-", "*&#47;5/" or "1,2,", and resolves hashed fields ("H") to the same values.
+ * <p>
+ * Besides the throwing {@code parse} methods, {@code tryParse} and {@code validate} report invalid input as a
+ * {@link ParseResult} holding an {@link ErrorCode}, the field and the character offset. They create no exceptions,
+ * and {@code validate} allocates nothing for valid input.
+ */
+public class SinglePassCronParser implements CronParser {
+    private static final int SCHEDULE_FIELDS = 5;
+    private static final int EXPECTED_FIELDS = 6; // A valid cron expression must have exactly 6 fields.
+    private static final int NUMBER_LIMIT = 100_000; // Larger numbers are out of range for every field
+
+    private static final String[] FIELD_NAMES = {"minute", "hour", "day of month", "month", "day of week"};
+    private static final int[] MIN_VALUES = {0, 0, 1, 1, 0};
+    private static final int[] MAX_VALUES = {59, 23, 31, 12, 6};
+    private static final int[] MAX_STEPS = {59, 23, 30, 11, 7}; // Same step limits as CronValidator
+
+    private final MetricsSink metrics;
+
+    /**
+     * Creates a parser without instrumentation.
+     */
+    public SinglePassCronParser() {
+        this(MetricsSink.noop());
+    }
+
+    /**
+     * Creates a parser reporting parse latency, per-field cost and validation failures to the given sink.
+     */
+    public SinglePassCronParser(MetricsSink metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Parses a cron expression string and returns a CronExpression object.
+     *
+     * @param cronExpression The input cron string.
+     * @return A CronExpression object containing parsed values.
+     * @throws IllegalArgumentException if the cron expression is invalid.
+     */
+    @Override
+    public CronExpression parse(String cronExpression) {
+        return parse(cronExpression, 0, cronExpression.length());
+    }
+
+    /**
+     * Parses a cron expression string, spreading hashed fields ("H") on the given job key instead of the command.
+     *
+     * @param cronExpression The input cron string.
+     * @param hashKey        Key hashed fields are spread on, or null to use the command.
+     * @return A CronExpression object containing parsed values.
+     * @throws IllegalArgumentException if the cron expression is invalid.
+     */
+    public CronExpression parse(String cronExpression, String hashKey) {
+        return parse(cronExpression, 0, cronExpression.length(), hashKey);
+    }
+
+    /**
+     * Parses a cron expression from any character sequence.
+     *
+     * @param input The input characters.
+     * @return A CronExpression object containing parsed values.
+     * @throws IllegalArgumentException if the cron expression is invalid.
+     */
+    public CronExpression parse(CharSequence input) {
+        return parse(input, 0, input.length());
+    }
+
+    /**
+     * Parses a cron expression from a character range inside a larger buffer.
+     *
+     * @param input The buffer holding the expression.
+     * @param start Index of the first character of the expression (inclusive).
+     * @param end   Index after the last character of the expression (exclusive).
+     * @return A CronExpression object containing parsed values.
+     * @throws IllegalArgumentException  if the cron expression is invalid.
+     * @throws IndexOutOfBoundsException if the range is outside the buffer.
+     */
+    public CronExpression parse(CharSequence input, int start, int end) {
+        return parse(input, start, end, null);
+    }
+
+    private CronExpression parse(CharSequence input, int start, int end, String hashKey) {
+        Object result = run(input, start, end, hashKey, true);
+        if (result instanceof CronExpression) {
+            return (CronExpression) result;
+        }
+        throw exception(input, start, end, (ParseResult) result);
+    }
+
+    /**
+     * Parses a cron expression without throwing on invalid input.
+     *
+     * @param input The input characters.
+     * @return A result holding the parsed expression, or the error code, field and offset of the first error.
+     */
+    public ParseResult tryParse(CharSequence input) {
+        return tryParse(input, 0, input.length());
+    }
+
+    /**
+     * Parses a cron expression without throwing on invalid input, spreading hashed fields ("H") on the given job
+     * key instead of the command.
+     *
+     * @param input   The input characters.
+     * @param hashKey Key hashed fields are spread on, or null to use the command.
+     * @return A result holding the parsed expression, or the error code, field and offset of the first error.
+     */
+    public ParseResult tryParse(CharSequence input, String hashKey) {
+        return tryParse(input, 0, input.length(), hashKey);
+    }
+
+    /**
+     * Parses a cron expression from a character range inside a larger buffer without throwing on invalid input.
+     * Offsets in the result are indexes into the buffer.
+     *
+     * @param input The buffer holding the expression.
+     * @param start Index of the first character of the expression (inclusive).
+     * @param end   Index after the last character of the expression (exclusive).
+     * @return A result holding the parsed expression, or the error code, field and offset of the first error.
+     * @throws IndexOutOfBoundsException if the range is outside the buffer.
+     */
+    public ParseResult tryParse(CharSequence input, int start, int end) {
+        return tryParse(input, start, end, null);
+    }
+
+    private ParseResult tryParse(CharSequence input, int start, int end, String hashKey) {
+        Object result = run(input, start, end, hashKey, true);
+        return result instanceof CronExpression ? ParseResult.of((CronExpression) result) : (ParseResult) result;
+    }
+
+    /**
+     * Checks a cron expression without building it and without throwing on invalid input.
+     *
+     * @param input The input characters.
+     * @return {@link ParseResult#VALID}, or the error code, field and offset of the first error.
+     */
+    public ParseResult validate(CharSequence input) {
+        return validate(input, 0, input.length());
+    }
+
+    /**
+     * Checks a cron expression inside a larger buffer without building it and without throwing on invalid input.
+     * Offsets in the result are indexes into the buffer.
+     *
+     * @param input The buffer holding the expression.
+     * @param start Index of the first character of the expression (inclusive).
+     * @param end   Index after the last character of the expression (exclusive).
+     * @return {@link ParseResult#VALID}, or the error code, field and offset of the first error.
+     * @throws IndexOutOfBoundsException if the range is outside the buffer.
+     */
+    public ParseResult validate(CharSequence input, int start, int end) {
+        return (ParseResult) run(input, start, end, null, false);
+    }
+
+    /**
+     * Runs the parse, recording it if metrics are enabled.
+     *
+     * @return The parsed expression if building, {@link ParseResult#VALID} if only validating, or the failure.
+     */
+    private Object run(CharSequence input, int start, int end, String hashKey, boolean build) {
+        if (start < 0 || end > input.length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length "
+                    + input.length());
+        }
+        if (!metrics.isEnabled()) {
+            return parseRange(input, start, end, hashKey, false, build);
+        }
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = parseRange(input, start, end, hashKey, true, build);
+            success = !(result instanceof ParseResult) || ((ParseResult) result).isValid();
+            return result;
+        } finally {
+            metrics.recordParse(System.nanoTime() - startNanos, success);
+        }
+    }
+
+    private Object parseRange(CharSequence input, int start, int end, String hashKey, boolean timed,
+                              boolean build) {
+        // Trim the same characters String.trim() removes.
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        long minutes = 0L;
+        long hours = 0L;
+        long daysOfMonth = 0L;
+        long months = 0L;
+        long daysOfWeek = 0L;
+        long hash = 0L;
+        boolean hashed = false;
+
+        int pos = start;
+        for (int field = 0; field < SCHEDULE_FIELDS; field++) {
+            if (pos >= end) {
+                return ParseResult.failure(ErrorCode.FIELD_COUNT, -1, pos);
+            }
+            long fieldNanos = timed ? System.nanoTime() : 0L;
+            int min = MIN_VALUES[field];
+            int max = MAX_VALUES[field];
+            long bits;
+
+            char c = input.charAt(pos);
+            if (c == '*') {
+                pos++;
+                if (isFieldEnd(input, pos, end)) {
+                    bits = range(min, max);  // Wildcard (e.g., "*")
+                } else if (input.charAt(pos) == '/') {
+                    long number = readNumber(input, pos + 1, end);  // Step from the minimum (e.g., "*/15")
+                    if (number < 0) {
+                        return fail(field, pos + 1, ErrorCode.INVALID_STEP);
+                    }
+                    int step = (int) number;
+                    if (step < 1 || step > MAX_STEPS[field]) {
+                        return fail(field, pos + 1, ErrorCode.STEP_OUT_OF_RANGE);
+                    }
+                    pos = skip(input, (int) (number >>> 32), end, '/');
+                    if (!isFieldEnd(input, pos, end)) {
+                        return fail(field, pos, ErrorCode.INVALID_STEP_FORMAT);
+                    }
+                    bits = steps(min, max, step);
+                } else {
+                    return fail(field, pos, ErrorCode.UNEXPECTED_CHARACTER);
+                }
+            } else if (c == 'H') {
+                // Hashed value (e.g., "H", "H/15", "H(0-29)" or "H(0-29)/10"); trailing separators are not tolerated
+                int from = min;
+                int to = CronFieldParser.hashedMaxValue(min, max);
+                pos++;
+                if (pos < end && input.charAt(pos) == '(') {
+                    int fromPos = pos + 1;
+                    long fromNumber = readNumber(input, fromPos, end);
+                    pos = fromNumber < 0 ? fromPos : (int) (fromNumber >>> 32);
+                    if (fromNumber < 0 || pos >= end || input.charAt(pos) != '-') {
+                        return fail(field, pos, ErrorCode.INVALID_HASH_RANGE);
+                    }
+                    long toNumber = readNumber(input, pos + 1, end);
+                    pos = toNumber < 0 ? pos + 1 : (int) (toNumber >>> 32);
+                    if (toNumber < 0 || pos >= end || input.charAt(pos) != ')') {
+                        return fail(field, pos, ErrorCode.INVALID_HASH_RANGE);
+                    }
+                    pos++;
+                    from = (int) fromNumber;
+                    to = (int) toNumber;
+                    if (from < min || to > max || from > to) {
+                        return fail(field, fromPos, ErrorCode.INVALID_RANGE);
+                    }
+                }
+                if (!hashed && build) {  // Validation skips the hash, which would copy the command
+                    hash = CronFieldParser.hash(hashKey != null ? hashKey : command(input, pos, end, field));
+                    hashed = true;
+                }
+                if (isFieldEnd(input, pos, end)) {
+                    bits = 1L << (from + CronFieldParser.spread(hash, min, max, to - from + 1));
+                } else if (input.charAt(pos) == '/') {
+                    long number = readNumber(input, pos + 1, end);
+                    if (number < 0) {
+                        return fail(field, pos + 1, ErrorCode.INVALID_STEP);
+                    }
+                    int step = (int) number;
+                    if (step < 1 || step > MAX_STEPS[field]) {
+                        return fail(field, pos + 1, ErrorCode.STEP_OUT_OF_RANGE);
+                    }
+                    pos = (int) (number >>> 32);
+                    if (!isFieldEnd(input, pos, end)) {
+                        return fail(field, pos, ErrorCode.INVALID_STEP_FORMAT);
+                    }
+                    int offset = CronFieldParser.spread(hash, min, max, Math.min(step, to - from + 1));
+                    bits = steps(from + offset, to, step);
+                } else {
+                    return fail(field, pos, ErrorCode.UNEXPECTED_CHARACTER);
+                }
+            } else if (c == ',') {
+                // A field made only of commas is an empty list.
+                pos = skip(input, pos, end, ',');
+                if (!isFieldEnd(input, pos, end)) {
+                    return fail(field, pos, ErrorCode.EMPTY_LIST_ELEMENT);
+                }
+                bits = 0L;
+            } else {
+                long number = readNumber(input, pos, end);
+                if (number < 0) {
+                    return fail(field, pos, ErrorCode.INVALID_NUMBER);
+                }
+                int first = (int) number;
+                int firstPos = pos;
+                pos = (int) (number >>> 32);
+
+                if (isFieldEnd(input, pos, end)) {  // Single number (e.g., "5")
+                    if (first < min || first > max) {
+                        return fail(field, firstPos, ErrorCode.VALUE_OUT_OF_RANGE);
+                    }
+                    bits = 1L << first;
+                } else if (input.charAt(pos) == '/') {  // Step from a value (e.g., "5/10")
+                    if (first < min || first > max) {
+                        return fail(field, firstPos, ErrorCode.VALUE_OUT_OF_RANGE);
+                    }
+                    long stepNumber = readNumber(input, pos + 1, end);
+                    if (stepNumber < 0) {
+                        return fail(field, pos + 1, ErrorCode.INVALID_STEP);
+                    }
+                    int step = (int) stepNumber;
+                    if (step < 1 || step > MAX_STEPS[field]) {
+                        return fail(field, pos + 1, ErrorCode.STEP_OUT_OF_RANGE);
+                    }
+                    pos = skip(input, (int) (stepNumber >>> 32), end, '/');
+                    if (!isFieldEnd(input, pos, end)) {
+                        return fail(field, pos, ErrorCode.INVALID_STEP_FORMAT);
+                    }
+                    bits = steps(first, max, step);
+                } else if (input.charAt(pos) == '-') {  // Range (e.g., "1-5")
+                    long lastNumber = readNumber(input, pos + 1, end);
+                    if (lastNumber < 0) {
+                        return fail(field, pos + 1, ErrorCode.INVALID_RANGE_END);
+                    }
+                    int last = (int) lastNumber;
+                    pos = skip(input, (int) (lastNumber >>> 32), end, '-');
+                    if (!isFieldEnd(input, pos, end)) {
+                        return fail(field, pos, ErrorCode.INVALID_RANGE_FORMAT);
+                    }
+                    if (first < min || last > max || first > last) {
+                        return fail(field, firstPos, ErrorCode.INVALID_RANGE);
+                    }
+                    bits = range(first, last);
+                } else if (input.charAt(pos) == ',') {  // List (e.g., "1,3,5")
+                    if (first < min || first > max) {
+                        return fail(field, firstPos, ErrorCode.VALUE_OUT_OF_RANGE);
+                    }
+                    bits = 1L << first;
+                    while (!isFieldEnd(input, pos, end)) {
+                        if (input.charAt(pos) != ',') {
+                            return fail(field, pos, ErrorCode.UNEXPECTED_CHARACTER);
+                        }
+                        pos++;
+                        if (isFieldEnd(input, pos, end)) {
+                            break;
+                        }
+                        if (input.charAt(pos) == ',') {
+                            pos = skip(input, pos, end, ',');  // Trailing commas are tolerated
+                            if (!isFieldEnd(input, pos, end)) {
+                                return fail(field, pos, ErrorCode.EMPTY_LIST_ELEMENT);
+                            }
+                            break;
+                        }
+                        long element = readNumber(input, pos, end);
+                        if (element < 0) {
+                            return fail(field, pos, ErrorCode.INVALID_NUMBER);
+                        }
+                        int value = (int) element;
+                        if (value < min || value > max) {
+                            return fail(field, pos, ErrorCode.VALUE_OUT_OF_RANGE);
+                        }
+                        bits |= 1L << value;
+                        pos = (int) (element >>> 32);
+                    }
+                } else {
+                    return fail(field, pos, ErrorCode.UNEXPECTED_CHARACTER);
+                }
+            }
+
+            switch (field) {
+                case 0:
+                    minutes = bits;
+                    break;
+                case 1:
+                    hours = bits;
+                    break;
+                case 2:
+                    daysOfMonth = bits;
+                    break;
+                case 3:
+                    months = bits;
+                    break;
+                default:
+                    daysOfWeek = bits;
+                    break;
+            }
+            if (timed) {
+                metrics.recordFieldParse(FIELD_NAMES[field], System.nanoTime() - fieldNanos);
+            }
+            pos = skipWhitespace(input, pos, end);
+        }
+
+        // The command is the sixth and last field.
+        if (pos >= end) {
+            return ParseResult.failure(ErrorCode.FIELD_COUNT, -1, pos);
+        }
+        int commandStart = pos;
+        while (pos < end && !isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+        int commandEnd = pos;
+        pos = skipWhitespace(input, pos, end);
+        if (pos != end) {
+            return ParseResult.failure(ErrorCode.FIELD_COUNT, -1, pos);
+        }
+        if (!build) {
+            return ParseResult.VALID;
+        }
+
+        CronSchedule schedule = new CronSchedule(minutes, (int) hours, (int) daysOfMonth, (int) months,
+                (byte) daysOfWeek);
+        return new CronExpression(schedule, input.subSequence(commandStart, commandEnd).toString());
+    }
+
+    /**
+     * Reads an optionally '+'-signed decimal number, accepting the same digits as {@link Integer#parseInt}.
+     *
+     * @return The position after the number in the upper 32 bits and its value (capped) in the lower 32 bits,
+     * or -1 if there is no digit at the position.
+     */
+    private static long readNumber(CharSequence input, int pos, int end) {
+        int i = pos;
+        if (i < end && input.charAt(i) == '+') {
+            i++;
+        }
+        int digitsStart = i;
+        int value = 0;
+        while (i < end) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0) {
+                break;
+            }
+            value = value > NUMBER_LIMIT ? value : value * 10 + digit;
+            i++;
+        }
+        return i == digitsStart ? -1L : (long) i << 32 | value;
+    }
+
+    /**
+     * Returns the command that follows the given schedule field, which hashed fields are spread on by default.
+     * Returns an empty sequence if the expression is too short; that is reported once all fields are parsed.
+     */
+    private static CharSequence command(CharSequence input, int pos, int end, int field) {
+        for (int remaining = SCHEDULE_FIELDS - field; remaining > 0; remaining--) {
+            while (pos < end && !isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+            pos = skipWhitespace(input, pos, end);
+        }
+        int commandStart = pos;
+        while (pos < end && !isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+        return input.subSequence(commandStart, pos);
+    }
+
+    private static long range(int from, int to) {
+        return (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    private static long steps(int from, int to, int step) {
+        long bits = 0L;
+        for (int i = from; i <= to; i += step) {
+            bits |= 1L << i;
+        }
+        return bits;
+    }
+
+    private static int skip(CharSequence input, int pos, int end, char c) {
+        while (pos < end && input.charAt(pos) == c) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipWhitespace(CharSequence input, int pos, int end) {
+        while (pos < end && isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isFieldEnd(CharSequence input, int pos, int end) {
+        return pos >= end || isWhitespace(input.charAt(pos));
+    }
+
+    /**
+     * Matches the whitespace characters of the regex {@code \s}, which DefaultCronParser splits on.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private ParseResult fail(int field, int pos, ErrorCode errorCode) {
+        metrics.recordValidationFailure(FIELD_NAMES[field]);
+        return ParseResult.failure(errorCode, field, pos);
+    }
+
+    /**
+     * Builds the exception the throwing {@code parse} methods report a failed result with.
+     */
+    private static IllegalArgumentException exception(CharSequence input, int start, int end, ParseResult failure) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (failure.getField() < 0) {
+            return fieldCountError(input, start, end);
+        }
+        int pos = failure.getOffset();
+        int fieldStart = pos;
+        while (fieldStart > start && !isWhitespace(input.charAt(fieldStart - 1))) {
+            fieldStart--;
+        }
+        int fieldEnd = pos;
+        while (!isFieldEnd(input, fieldEnd, end)) {
+            fieldEnd++;
+        }
+        return new IllegalArgumentException("Invalid " + failure.getFieldName() + " field at offset " + pos + " ("
+                + failure.getErrorCode().getDescription() + "): " + input.subSequence(fieldStart, fieldEnd));
+    }
+
+    private static IllegalArgumentException fieldCountError(CharSequence input, int start, int end) {
+        int fields = 0;
+        int pos = start;
+        while (pos < end) {
+            fields++;
+            while (pos < end && !isWhitespace(input.charAt(pos))) {
+                pos++;
+            }
+            pos = skipWhitespace(input, pos, end);
+        }
+        return new IllegalArgumentException("Invalid cron expression: Expected " + EXPECTED_FIELDS
+                + " fields, found " + Math.max(fields, 1));
+    }
+}
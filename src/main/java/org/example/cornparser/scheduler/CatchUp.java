@@ -0,0 +1,384 @@
+package org.example.cornparser.scheduler;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+import org.example.cornparser.time.ExecutionTimeCalculator;
+import org.example.cornparser.time.ZoneTransitions;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Replays the fire times a whole catalog missed between two instants, in global time order.
+ * <p>
+ * Each job's fire times are generated lazily, one at a time, and merged with a binary min-heap of primitive
+ * (time, job) pairs. Memory stays at a few bytes per job however many fire times are replayed, and fire times
+ * are streamed to the consumer as they are merged. Fire times follow {@link ExecutionTimeCalculator}, so they
+ * equal those of {@link CronExpression#fireTimes(long, long, ZoneId)}. Jobs due at the same instant come in
+ * job order.
+ * <p>
+ * Large catalogs are split into contiguous partitions of jobs. Each partition is merged by tasks on the executor,
+ * a block of fire times per task, and the partitions' blocks are merged on the calling thread. Each partition has
+ * one block waiting and one being produced, so memory stays bounded. No task ever blocks, so any executor can be
+ * used, including the common pool.
+ */
+public final class CatchUp {
+    private static final int BLOCK_SIZE = 4_096;             // Fire times per block handed from a partition
+    private static final int MIN_PARTITION_SIZE = 8_192;     // Smaller catalogs are merged on the calling thread
+
+    private final ZoneId zone;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final MisfirePolicy defaultPolicy;
+
+    private CatchUp(ZoneId zone, ExecutorService executor, int parallelism, MisfirePolicy defaultPolicy) {
+        this.zone = zone;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Replays the missed fire times of every job under the default misfire policy.
+     *
+     * @see #replay(List, IntFunction, long, long, MissedFireConsumer)
+     */
+    public long replay(List<? extends CronExpression> jobs, long fromEpochMilli, long toEpochMilli,
+                       MissedFireConsumer consumer) throws InterruptedException {
+        return replay(jobs, job -> defaultPolicy, fromEpochMilli, toEpochMilli, consumer);
+    }
+
+    /**
+     * Replays the fire times in {@code [fromEpochMilli, toEpochMilli)} of every job, in time order, applying each
+     * job's misfire policy. A {@link MisfirePolicy#FIRE_ONCE} job is replayed at its latest missed fire time.
+     * The consumer is called on the calling thread.
+     *
+     * @param jobs           The catalog; jobs are identified by their index in the list.
+     * @param policies       Misfire policy of each job, by index.
+     * @param fromEpochMilli Start of the missed interval in milliseconds since the epoch (inclusive).
+     * @param toEpochMilli   End of the missed interval in milliseconds since the epoch (exclusive).
+     * @param consumer       Receives each replayed fire time.
+     * @return Number of fire times replayed.
+     * @throws InterruptedException     if interrupted while waiting for a partition.
+     * @throws IllegalArgumentException if a policy is null.
+     */
+    public long replay(List<? extends CronExpression> jobs, IntFunction<MisfirePolicy> policies,
+                       long fromEpochMilli, long toEpochMilli, MissedFireConsumer consumer)
+            throws InterruptedException {
+        int size = jobs.size();
+        CronSchedule[] schedules = new CronSchedule[size];
+        MisfirePolicy[] jobPolicies = new MisfirePolicy[size];
+        for (int job = 0; job < size; job++) {
+            schedules[job] = jobs.get(job).getSchedule();
+            jobPolicies[job] = policies.apply(job);
+            if (jobPolicies[job] == null) {
+                throw new IllegalArgumentException("No misfire policy for job " + job);
+            }
+        }
+        long from = -Math.floorDiv(-fromEpochMilli, 1000L);  // Whole seconds, rounded up as in CronSchedule
+        long to = -Math.floorDiv(-toEpochMilli, 1000L);
+        ZoneTransitions transitions = ZoneTransitions.of(zone);
+
+        int partitions = Math.min(parallelism, size / MIN_PARTITION_SIZE);
+        if (partitions <= 1) {
+            Merge merge = new Merge(schedules, jobPolicies, 0, size, from, to, transitions);
+            long count = 0;
+            for (; merge.heap.size > 0; count++) {
+                consumer.accept(merge.heap.ids[0], merge.heap.times[0] * 1000L);
+                merge.advance();
+            }
+            return count;
+        }
+        return replayPartitioned(schedules, jobPolicies, from, to, transitions, partitions, consumer);
+    }
+
+    /**
+     * Merges the partitions' blocks with a heap holding the head of each partition. Jobs are partitioned by
+     * contiguous index ranges, so a job's partition follows from its index.
+     */
+    private long replayPartitioned(CronSchedule[] schedules, MisfirePolicy[] policies, long from, long to,
+                                   ZoneTransitions transitions, int partitions, MissedFireConsumer consumer)
+            throws InterruptedException {
+        int partitionSize = (schedules.length + partitions - 1) / partitions;
+        Merge[] merges = new Merge[partitions];
+        Block[] blocks = new Block[partitions];
+        int[] positions = new int[partitions];
+        @SuppressWarnings("unchecked")
+        Future<Block>[] pending = new Future[partitions];
+        try {
+            for (int p = 0; p < partitions; p++) {
+                int partition = p;
+                int start = p * partitionSize;
+                int end = Math.min(start + partitionSize, schedules.length);
+                pending[p] = executor.submit(() -> {
+                    merges[partition] = new Merge(schedules, policies, start, end, from, to, transitions);
+                    return merges[partition].fill();
+                });
+            }
+            Heap heads = new Heap(partitions);
+            for (int p = 0; p < partitions; p++) {
+                if (nextBlock(p, blocks, pending, merges)) {
+                    heads.add(blocks[p].times[0], blocks[p].jobs[0]);
+                }
+            }
+            heads.heapify();
+
+            long count = 0;
+            for (; heads.size > 0; count++) {
+                long time = heads.times[0];
+                int job = heads.ids[0];
+                consumer.accept(job, time);
+                int p = job / partitionSize;
+                if (++positions[p] == blocks[p].length) {
+                    positions[p] = 0;
+                    if (!nextBlock(p, blocks, pending, merges)) {
+                        heads.poll();
+                        continue;
+                    }
+                }
+                heads.replaceTop(blocks[p].times[positions[p]], blocks[p].jobs[positions[p]]);
+            }
+            return count;
+        } finally {
+            for (Future<Block> future : pending) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for a partition's next block and starts producing the one after it.
+     *
+     * @return Whether the partition had more fire times.
+     */
+    private boolean nextBlock(int p, Block[] blocks, Future<Block>[] pending, Merge[] merges)
+            throws InterruptedException {
+        if (pending[p] == null) {
+            return false;  // The last block was full and emptied the merge
+        }
+        Block block;
+        try {
+            block = pending[p].get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Catch-up partition failed", cause);
+        }
+        Merge merge = merges[p];
+        pending[p] = merge.heap.size > 0 ? executor.submit(merge::fill) : null;
+        blocks[p] = block;
+        return block.length > 0;
+    }
+
+    /**
+     * Lazy k-way merge over the jobs of one partition. Only one thread uses it at a time.
+     */
+    private static final class Merge {
+        private final CronSchedule[] schedules;
+        private final int start;
+        private final boolean[] repeating;  // Whether a job's successor is generated after each fire time
+        private final long to;
+        private final ZoneTransitions zone;
+        private final Heap heap;
+
+        private Merge(CronSchedule[] schedules, MisfirePolicy[] policies, int start, int end, long from, long to,
+                      ZoneTransitions zone) {
+            this.schedules = schedules;
+            this.start = start;
+            this.repeating = new boolean[end - start];
+            this.to = to;
+            this.zone = zone;
+            this.heap = new Heap(end - start);
+            for (int job = start; job < end && from < to; job++) {
+                long first;
+                switch (policies[job]) {
+                    case FIRE_ALL:
+                        first = ExecutionTimeCalculator.next(schedules[job], from - 1, zone);
+                        repeating[job - start] = true;
+                        break;
+                    case FIRE_ONCE:
+                        first = ExecutionTimeCalculator.previous(schedules[job], to, zone);
+                        first = first >= from ? first : ExecutionTimeCalculator.NO_EXECUTION;
+                        break;
+                    default:
+                        continue;
+                }
+                if (first != ExecutionTimeCalculator.NO_EXECUTION && first < to) {
+                    heap.add(first, job);
+                }
+            }
+            heap.heapify();
+        }
+
+        /**
+         * Replaces the earliest fire time with the same job's next one, or drops it if the job has no more.
+         */
+        private void advance() {
+            int job = heap.ids[0];
+            long next = repeating[job - start]
+                    ? ExecutionTimeCalculator.next(schedules[job], heap.times[0], zone)
+                    : ExecutionTimeCalculator.NO_EXECUTION;
+            if (next != ExecutionTimeCalculator.NO_EXECUTION && next < to) {
+                heap.replaceTop(next, job);
+            } else {
+                heap.poll();
+            }
+        }
+
+        /**
+         * Takes up to a block of fire times off the merge, in milliseconds.
+         */
+        private Block fill() {
+            Block block = new Block();
+            while (block.length < BLOCK_SIZE && heap.size > 0) {
+                block.times[block.length] = heap.times[0] * 1000L;
+                block.jobs[block.length++] = heap.ids[0];
+                advance();
+            }
+            return block;
+        }
+    }
+
+    /**
+     * Fire times of one partition, in time order.
+     */
+    private static final class Block {
+        private final long[] times = new long[BLOCK_SIZE];
+        private final int[] jobs = new int[BLOCK_SIZE];
+        private int length;
+    }
+
+    /**
+     * Binary min-heap of (time, id) pairs in parallel primitive arrays, ordered by time and then by id.
+     */
+    private static final class Heap {
+        private final long[] times;
+        private final int[] ids;
+        private int size;
+
+        private Heap(int capacity) {
+            this.times = new long[capacity];
+            this.ids = new int[capacity];
+        }
+
+        /**
+         * Appends an entry without restoring heap order; call {@link #heapify()} after the last one.
+         */
+        private void add(long time, int id) {
+            times[size] = time;
+            ids[size++] = id;
+        }
+
+        private void heapify() {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i, times[i], ids[i]);
+            }
+        }
+
+        private void replaceTop(long time, int id) {
+            siftDown(0, time, id);
+        }
+
+        private void poll() {
+            size--;
+            if (size > 0) {
+                siftDown(0, times[size], ids[size]);
+            }
+        }
+
+        private void siftDown(int i, long time, int id) {
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                int right = child + 1;
+                if (right < size && less(times[right], ids[right], times[child], ids[child])) {
+                    child = right;
+                }
+                if (!less(times[child], ids[child], time, id)) {
+                    break;
+                }
+                times[i] = times[child];
+                ids[i] = ids[child];
+                i = child;
+            }
+            times[i] = time;
+            ids[i] = id;
+        }
+
+        private static boolean less(long time, int id, long otherTime, int otherId) {
+            return time < otherTime || time == otherTime && id < otherId;
+        }
+    }
+
+    /**
+     * Configures a {@link CatchUp}. Defaults to the system default zone, the common fork-join pool, one partition
+     * per core and {@link MisfirePolicy#FIRE_ALL}.
+     */
+    public static final class Builder {
+        private ZoneId zone = ZoneId.systemDefault();
+        private ExecutorService executor = ForkJoinPool.commonPool();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private MisfirePolicy defaultPolicy = MisfirePolicy.FIRE_ALL;
+
+        private Builder() {
+        }
+
+        /**
+         * Evaluates schedules in the given time zone.
+         */
+        public Builder zone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        /**
+         * Merges partitions on the given executor, which is not shut down by the catch-up.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of partitions merged in parallel.
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the policy of jobs replayed without an explicit one.
+         */
+        public Builder defaultPolicy(MisfirePolicy defaultPolicy) {
+            this.defaultPolicy = defaultPolicy;
+            return this;
+        }
+
+        /**
+         * @return The configured catch-up.
+         */
+        public CatchUp build() {
+            return new CatchUp(zone, executor, parallelism, defaultPolicy);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.cornparser.scheduler;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.time.ExecutionTimeCalculator;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fires registered cron expressions on time, using a hierarchical timing wheel so each tick costs O(1)
+ * however many jobs are registered. Due jobs are handed to an executor and re-armed at their next fire time.
+ * <p>
+ * Jobs may be registered and cancelled from any thread; the requests are queued and applied by the thread that
+ * advances the wheel. Time comes from the supplied {@link Clock}, so tests can drive the scheduler by moving a
+ * clock and calling {@link #advance()} instead of starting the background thread.
+ */
+public class CronScheduler implements AutoCloseable {
+    private static final long DEFAULT_TICK_MILLIS = 1_000;  // Cron fires on whole minutes, so seconds are plenty
+    private static final long MAX_TICK_MILLIS = 60_000;
+    private static final Logger LOGGER = Logger.getLogger(CronScheduler.class.getName());
+
+    private final Clock clock;
+    private final Executor executor;
+    private final long tickMillis;
+    private final TimingWheel wheel;
+    private final Queue<ScheduledCronJob> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledCronJob> cancellations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger jobCount = new AtomicInteger();
+    private volatile Thread ticker;
+
+    /**
+     * Creates a scheduler on the system clock that runs jobs on the common fork-join pool.
+     */
+    public CronScheduler() {
+        this(Clock.systemDefaultZone(), ForkJoinPool.commonPool(), DEFAULT_TICK_MILLIS);
+    }
+
+    private CronScheduler(Clock clock, Executor executor, long tickMillis) {
+        this.clock = clock;
+        this.executor = executor;
+        this.tickMillis = tickMillis;
+        this.wheel = new TimingWheel(Math.floorDiv(clock.millis(), tickMillis));
+    }
+
+    /**
+     * @return A builder for configuring the clock, executor and tick length.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Registers a job evaluated in the clock's time zone.
+     *
+     * @param expression The cron expression deciding when the task runs.
+     * @param task       Runs on the executor at each fire time.
+     * @return Handle for cancelling the job.
+     */
+    public ScheduledCronJob schedule(CronExpression expression, Runnable task) {
+        return schedule(expression, clock.getZone(), task);
+    }
+
+    /**
+     * Registers a job evaluated in the given time zone.
+     *
+     * @param expression The cron expression deciding when the task runs.
+     * @param zone       Time zone the expression is evaluated in.
+     * @param task       Runs on the executor at each fire time.
+     * @return Handle for cancelling the job. A schedule that never fires returns an already inactive handle.
+     */
+    public ScheduledCronJob schedule(CronExpression expression, ZoneId zone, Runnable task) {
+        long next = expression.nextExecution(clock.millis(), zone);
+        ScheduledCronJob job = new ScheduledCronJob(this, expression, zone, task, next);
+        if (next == ExecutionTimeCalculator.NO_EXECUTION) {
+            job.deactivate();
+            return job;
+        }
+        job.deadlineTick = deadlineTick(next);
+        jobCount.incrementAndGet();
+        additions.add(job);
+        return job;
+    }
+
+    /**
+     * Runs every job due up to the clock's current time.
+     *
+     * @return Number of firings handed to the executor.
+     */
+    public synchronized int advance() {
+        ScheduledCronJob job;
+        while ((job = additions.poll()) != null) {
+            if (job.isActive()) {
+                wheel.add(job);
+            }
+        }
+        while ((job = cancellations.poll()) != null) {
+            wheel.remove(job);
+        }
+
+        int[] fired = new int[1];
+        wheel.advanceTo(Math.floorDiv(clock.millis(), tickMillis), due -> {
+            if (!due.isActive()) {
+                return;
+            }
+            dispatch(due);
+            fired[0]++;
+            long next = due.getExpression().nextExecution(due.deadlineMillis, due.getZone());
+            if (next == ExecutionTimeCalculator.NO_EXECUTION) {
+                if (due.deactivate()) {
+                    jobCount.decrementAndGet();
+                }
+                return;
+            }
+            due.deadlineMillis = next;
+            due.deadlineTick = deadlineTick(next);
+            wheel.add(due);
+        });
+        return fired[0];
+    }
+
+    /**
+     * Starts a daemon thread that advances the scheduler once per tick.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    advance();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, "Scheduler tick failed", e);
+                }
+                long millis = clock.millis();
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(tickMillis - Math.floorMod(millis, tickMillis)));
+            }
+        }, "cron-scheduler");
+        thread.setDaemon(true);
+        ticker = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the background thread, if started. The executor is left running.
+     */
+    @Override
+    public void close() {
+        Thread thread = ticker;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+            ticker = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Number of jobs that are still scheduled to fire.
+     */
+    public int getJobCount() {
+        return jobCount.get();
+    }
+
+    void cancel(ScheduledCronJob job) {
+        jobCount.decrementAndGet();
+        cancellations.add(job);
+    }
+
+    private void dispatch(ScheduledCronJob job) {
+        try {
+            executor.execute(job.getTask());
+        } catch (RejectedExecutionException e) {
+            LOGGER.log(Level.WARNING, "Executor rejected cron job: " + job.getExpression().getCommand(), e);
+        }
+    }
+
+    /**
+     * First tick at or after the given epoch milliseconds, so a job never fires early.
+     */
+    private long deadlineTick(long epochMilli) {
+        return Math.floorDiv(epochMilli + tickMillis - 1, tickMillis);
+    }
+
+    /**
+     * Configures a {@link CronScheduler}. Defaults to the system clock, the common fork-join pool and one-second ticks.
+     */
+    public static final class Builder {
+        private Clock clock = Clock.systemDefaultZone();
+        private Executor executor = ForkJoinPool.commonPool();
+        private long tickMillis = DEFAULT_TICK_MILLIS;
+
+        private Builder() {
+        }
+
+        /**
+         * Reads time from the given clock; its zone is the default zone for registered jobs.
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Runs fired jobs on the given executor, which {@link #close()} leaves running.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the wheel resolution; jobs fire at most one tick late.
+         */
+        public Builder tickMillis(long tickMillis) {
+            if (tickMillis < 1 || tickMillis > MAX_TICK_MILLIS) {
+                throw new IllegalArgumentException("Tick must be between 1 and " + MAX_TICK_MILLIS + " ms: " + tickMillis);
+            }
+            this.tickMillis = tickMillis;
+            return this;
+        }
+
+        /**
+         * @return The configured scheduler, not yet started.
+         */
+        public CronScheduler build() {
+            return new CronScheduler(clock, executor, tickMillis);
+        }
+    }
+}
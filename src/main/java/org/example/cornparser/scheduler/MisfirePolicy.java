@@ -0,0 +1,13 @@
+package org.example.cornparser.scheduler;
+
+/**
+ * What to do with the fire times a job missed while the scheduler was not running.
+ */
+public enum MisfirePolicy {
+    /** Replay every missed fire time. */
+    FIRE_ALL,
+    /** Replay only the latest missed fire time, standing in for all of them. */
+    FIRE_ONCE,
+    /** Replay nothing. */
+    SKIP
+}
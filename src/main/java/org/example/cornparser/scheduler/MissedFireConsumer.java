@@ -0,0 +1,13 @@
+package org.example.cornparser.scheduler;
+
+/**
+ * Receives missed fire times during a {@link CatchUp} replay, without boxing.
+ */
+@FunctionalInterface
+public interface MissedFireConsumer {
+    /**
+     * @param job        Index of the job in the replayed list.
+     * @param epochMilli The missed fire time in milliseconds since the epoch.
+     */
+    void accept(int job, long epochMilli);
+}
@@ -0,0 +1,92 @@
+package org.example.cornparser.scheduler;
+
+import org.example.cornparser.model.CronExpression;
+
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Handle for a cron expression registered with a {@link CronScheduler}.
+ * Doubles as the timing wheel entry, so a registered job costs a single object.
+ */
+public final class ScheduledCronJob {
+    private final CronScheduler scheduler;
+    private final CronExpression expression;
+    private final ZoneId zone;
+    private final Runnable task;
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private volatile boolean cancelled;
+
+    // Timing wheel state, only touched by the thread advancing the scheduler.
+    volatile long deadlineMillis;
+    long deadlineTick;
+    ScheduledCronJob previous;
+    ScheduledCronJob next;
+    int level = -1;  // -1 while not in the wheel
+    int slot;
+
+    ScheduledCronJob(CronScheduler scheduler, CronExpression expression, ZoneId zone, Runnable task,
+                     long deadlineMillis) {
+        this.scheduler = scheduler;
+        this.expression = expression;
+        this.zone = zone;
+        this.task = task;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * @return The registered cron expression.
+     */
+    public CronExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return The time zone the expression is evaluated in.
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @return Epoch milliseconds of the next fire time.
+     */
+    public long getNextFireTime() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Stops future firings. A firing already handed to the executor still runs.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (deactivate()) {
+            scheduler.cancel(this);
+        }
+    }
+
+    /**
+     * @return True once the job was cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return True while the job is neither cancelled nor past its last fire time.
+     */
+    public boolean isActive() {
+        return active.get();
+    }
+
+    /**
+     * Marks the job finished; returns true only for the first caller.
+     */
+    boolean deactivate() {
+        return active.compareAndSet(true, false);
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+}
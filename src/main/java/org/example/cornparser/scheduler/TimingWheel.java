@@ -0,0 +1,172 @@
+package org.example.cornparser.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with four levels of 256 slots, indexed by absolute tick number.
+ * An entry sits at the lowest level whose higher-order tick digits match the current tick, so level 0 holds
+ * entries due within the current 256 ticks, level 1 within the current 65,536 ticks, and so on. Entries further
+ * out than 2^32 ticks wait in an overflow list. When the current tick crosses a level boundary, the slot of the
+ * next level is cascaded down, so every tick costs O(1) regardless of how many entries are registered.
+ * <p>
+ * Not thread-safe: all calls must come from the thread advancing the wheel.
+ */
+final class TimingWheel {
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final ScheduledCronJob[][] slots = new ScheduledCronJob[LEVELS][SLOTS];
+    private final int[] levelSizes = new int[LEVELS];
+    private ScheduledCronJob overflow;  // Entries beyond the top level, revisited when it wraps
+    private int overflowSize;
+    private long currentTick;           // Next tick to process
+
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Adds an entry by its {@code deadlineTick}. Entries already due go to the current slot.
+     */
+    void add(ScheduledCronJob entry) {
+        long deadline = Math.max(entry.deadlineTick, currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if (deadline >>> shift == currentTick >>> shift) {
+                int slot = (int) (deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+                link(entry, level, slot);
+                return;
+            }
+        }
+        entry.level = LEVELS;
+        entry.previous = null;
+        entry.next = overflow;
+        if (overflow != null) {
+            overflow.previous = entry;
+        }
+        overflow = entry;
+        overflowSize++;
+    }
+
+    /**
+     * Removes an entry from whichever slot holds it.
+     */
+    void remove(ScheduledCronJob entry) {
+        if (entry.level < 0) {
+            return;
+        }
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else if (entry.level == LEVELS) {
+            overflow = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        if (entry.level == LEVELS) {
+            overflowSize--;
+        } else {
+            levelSizes[entry.level]--;
+        }
+        entry.level = -1;
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    /**
+     * Processes every tick up to and including {@code targetTick}, handing due entries to {@code due}.
+     * The callback may add entries back, as long as their deadline is after the tick being processed.
+     */
+    void advanceTo(long targetTick, Consumer<ScheduledCronJob> due) {
+        while (currentTick <= targetTick) {
+            long tick = currentTick;
+            if ((tick & 0xFFFF_FFFFL) == 0) {
+                cascadeOverflow();
+            }
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                }
+            }
+
+            // Nothing can fire before the next boundary of the lowest non-empty level, so jump straight to it.
+            if (levelSizes[0] == 0) {
+                int level = 1;
+                while (level < LEVELS && levelSizes[level] == 0) {
+                    level++;
+                }
+                long span = 1L << (SLOT_BITS * level);
+                currentTick = Math.min((tick | (span - 1)) + 1, targetTick + 1);
+                continue;
+            }
+
+            int slot = (int) tick & SLOT_MASK;
+            ScheduledCronJob entry = slots[0][slot];
+            slots[0][slot] = null;
+            while (entry != null) {
+                ScheduledCronJob next = entry.next;
+                levelSizes[0]--;
+                entry.level = -1;
+                entry.previous = null;
+                entry.next = null;
+                if (entry.deadlineTick <= tick) {
+                    due.accept(entry);
+                } else {
+                    add(entry);
+                }
+                entry = next;
+            }
+            currentTick = tick + 1;
+        }
+    }
+
+    /**
+     * @return Number of entries in the wheel.
+     */
+    int size() {
+        int size = overflowSize;
+        for (int levelSize : levelSizes) {
+            size += levelSize;
+        }
+        return size;
+    }
+
+    private void cascade(int level, int slot) {
+        ScheduledCronJob entry = slots[level][slot];
+        slots[level][slot] = null;
+        while (entry != null) {
+            ScheduledCronJob next = entry.next;
+            levelSizes[level]--;
+            add(entry);
+            entry = next;
+        }
+    }
+
+    private void cascadeOverflow() {
+        ScheduledCronJob entry = overflow;
+        overflow = null;
+        overflowSize = 0;
+        while (entry != null) {
+            ScheduledCronJob next = entry.next;
+            add(entry);
+            entry = next;
+        }
+    }
+
+    private void link(ScheduledCronJob entry, int level, int slot) {
+        ScheduledCronJob head = slots[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.previous = null;
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        slots[level][slot] = entry;
+        levelSizes[level]++;
+    }
+}
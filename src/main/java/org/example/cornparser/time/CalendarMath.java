@@ -0,0 +1,96 @@
+package org.example.cornparser.time;
+
+/**
+ * Allocation-free proleptic Gregorian calendar arithmetic on epoch days and local epoch seconds.
+ * Day-of-week values follow the cron convention (0 = Sunday ... 6 = Saturday).
+ */
+public final class CalendarMath {
+    public static final int SECONDS_PER_MINUTE = 60;
+    public static final int SECONDS_PER_DAY = 86_400;
+
+    private CalendarMath() {
+    }
+
+    /**
+     * Returns the number of days since 1970-01-01 for the given date.
+     *
+     * @param year  Proleptic year.
+     * @param month Month of year (1-12).
+     * @param day   Day of month (1-31).
+     * @return Epoch day.
+     */
+    public static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Decomposes an epoch day into its date, packed as {@code year << 9 | month << 5 | day}.
+     * Use {@link #year(long)}, {@link #month(long)} and {@link #day(long)} to unpack.
+     *
+     * @param epochDay Days since 1970-01-01.
+     * @return Packed date.
+     */
+    public static long civil(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    /** @return Year of a date packed by {@link #civil(long)}. */
+    public static int year(long civil) {
+        return (int) (civil >> 9);
+    }
+
+    /** @return Month (1-12) of a date packed by {@link #civil(long)}. */
+    public static int month(long civil) {
+        return (int) (civil >> 5) & 0xF;
+    }
+
+    /** @return Day of month (1-31) of a date packed by {@link #civil(long)}. */
+    public static int day(long civil) {
+        return (int) civil & 0x1F;
+    }
+
+    /**
+     * @return Day of week for the epoch day, 0 = Sunday.
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 4, 7L);  // 1970-01-01 was a Thursday
+    }
+
+    /**
+     * @return True if the year is a leap year.
+     */
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @return Number of days in the given month of the given year.
+     */
+    public static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Returns the local epoch second (seconds since 1970-01-01T00:00 on the local clock) of the given local time.
+     */
+    public static long localEpochSecond(int year, int month, int day, int hour, int minute) {
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3_600L + minute * (long) SECONDS_PER_MINUTE;
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.cornparser.time;
+
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+
+import java.time.ZoneId;
+
+import static org.example.cornparser.time.CalendarMath.SECONDS_PER_DAY;
+import static org.example.cornparser.time.CalendarMath.SECONDS_PER_MINUTE;
+
+/**
+ * Schedule compiled against one zone, answering "does it fire during the minute containing this instant?" with
+ * primitive arithmetic only. Fields that are wildcards are skipped, and the calendar date is only derived when
+ * the month or day of month is restricted.
+ * <p>
+ * The offset in force is cached as a window between two transitions, so the steady state needs one volatile
+ * read and no allocation. Crossing a transition builds a new window. Answers agree with
+ * {@link ExecutionTimeCalculator}:
+ * <ul>
+ *     <li>the minute that ends a DST gap matches if any skipped local time does;</li>
+ *     <li>the repeated hour of an overlap never matches, because its local times already fired.</li>
+ * </ul>
+ * Instances are immutable apart from the cache and can be shared freely between threads.
+ */
+public final class CronMatcher {
+    private static final long ALL_MINUTES = (1L << 60) - 1;
+    private static final int ALL_HOURS = (1 << 24) - 1;
+    private static final int ALL_DAYS_OF_MONTH = 0xFFFFFFFE;
+    private static final int ALL_MONTHS = 0x1FFE;
+    private static final int ALL_DAYS_OF_WEEK = 0x7F;
+
+    private final CronSchedule schedule;
+    private final ZoneTransitions zone;
+    private final long minuteBits;
+    private final int hourBits;
+    private final int dayOfMonthBits;
+    private final int monthBits;
+    private final int dayOfWeekBits;
+    private final boolean anyMinute;
+    private final boolean anyHour;
+    private final boolean anyMonth;
+    private final boolean checkDayOfMonth;
+    private final boolean checkDayOfWeek;
+    private final boolean eitherDay;
+    private volatile OffsetWindow window;
+
+    private CronMatcher(CronSchedule schedule, ZoneId zone) {
+        this.schedule = schedule;
+        this.zone = ZoneTransitions.of(zone);
+        this.minuteBits = schedule.getMinuteBits() & ALL_MINUTES;
+        this.hourBits = schedule.getHourBits() & ALL_HOURS;
+        this.dayOfMonthBits = schedule.getDayOfMonthBits() & ALL_DAYS_OF_MONTH;
+        this.monthBits = schedule.getMonthBits() & ALL_MONTHS;
+        this.dayOfWeekBits = schedule.getDayOfWeekBits() & ALL_DAYS_OF_WEEK;
+        this.anyMinute = minuteBits == ALL_MINUTES;
+        this.anyHour = hourBits == ALL_HOURS;
+        this.anyMonth = monthBits == ALL_MONTHS;
+        // Cron day rule: a wildcard day field defers to the other one; two restricted fields match on either.
+        this.checkDayOfMonth = dayOfMonthBits != ALL_DAYS_OF_MONTH;
+        this.checkDayOfWeek = dayOfWeekBits != ALL_DAYS_OF_WEEK;
+        this.eitherDay = checkDayOfMonth && checkDayOfWeek;
+        this.window = OffsetWindow.NONE;
+    }
+
+    /**
+     * Compiles a matcher for the schedule of an expression.
+     *
+     * @param expression The parsed expression.
+     * @param zone       Time zone the expression is evaluated in.
+     * @return The compiled matcher.
+     */
+    public static CronMatcher of(CronExpression expression, ZoneId zone) {
+        return new CronMatcher(expression.getSchedule(), zone);
+    }
+
+    /**
+     * Compiles a matcher for a schedule.
+     *
+     * @param schedule The parsed schedule.
+     * @param zone     Time zone the schedule is evaluated in.
+     * @return The compiled matcher.
+     */
+    public static CronMatcher of(CronSchedule schedule, ZoneId zone) {
+        return new CronMatcher(schedule, zone);
+    }
+
+    /**
+     * Returns true if the schedule fires during the minute containing the given instant.
+     *
+     * @param epochMilli Milliseconds since the epoch.
+     * @return Whether the instant falls within a minute the schedule fires at.
+     */
+    public boolean matches(long epochMilli) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        OffsetWindow current = window;
+        if (epochSecond < current.start || epochSecond >= current.end) {
+            current = OffsetWindow.at(epochSecond, zone, schedule);
+            window = current;
+        }
+        if (epochSecond < current.repeatedEnd) {
+            return false;
+        }
+        if (current.gapFires && epochSecond < current.start + SECONDS_PER_MINUTE) {
+            return true;
+        }
+        return matchesLocal(epochSecond + current.offset);
+    }
+
+    /**
+     * Returns true if the fields match the local minute containing the given local epoch second.
+     */
+    private boolean matchesLocal(long localEpochSecond) {
+        long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) (localEpochSecond - epochDay * SECONDS_PER_DAY);
+        if (!anyMinute && (minuteBits & (1L << (secondOfDay / SECONDS_PER_MINUTE % 60))) == 0) {
+            return false;
+        }
+        if (!anyHour && (hourBits & (1 << (secondOfDay / 3_600))) == 0) {
+            return false;
+        }
+        boolean dayOfMonthMatches = false;
+        if (!anyMonth || checkDayOfMonth) {
+            long date = CalendarMath.civil(epochDay);
+            if (!anyMonth && (monthBits & (1 << CalendarMath.month(date))) == 0) {
+                return false;
+            }
+            dayOfMonthMatches = (dayOfMonthBits & (1 << CalendarMath.day(date))) != 0;
+        }
+        if (eitherDay && dayOfMonthMatches) {
+            return true;
+        }
+        if (checkDayOfMonth && !eitherDay && !dayOfMonthMatches) {
+            return false;
+        }
+        return !checkDayOfWeek || (dayOfWeekBits & (1 << CalendarMath.dayOfWeek(epochDay))) != 0;
+    }
+
+    /**
+     * Offset in force between two consecutive transitions, with how the transition at its start affects matching.
+     */
+    private static final class OffsetWindow {
+        private static final OffsetWindow NONE = new OffsetWindow(0, 0, 0, 0, false);
+
+        private final long start;          // Inclusive, seconds since the epoch
+        private final long end;            // Exclusive
+        private final int offset;
+        private final long repeatedEnd;    // Instants before this repeat local times that already fired
+        private final boolean gapFires;    // The first minute of the window fires for local times the gap skipped
+
+        private OffsetWindow(long start, long end, int offset, long repeatedEnd, boolean gapFires) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+            this.repeatedEnd = repeatedEnd;
+            this.gapFires = gapFires;
+        }
+
+        private static OffsetWindow at(long epochSecond, ZoneTransitions zone, CronSchedule schedule) {
+            long start = zone.previousTransition(epochSecond);
+            long end = zone.nextTransition(epochSecond);
+            int offset = zone.offsetAt(epochSecond);
+            if (start == Long.MIN_VALUE) {
+                return new OffsetWindow(start, end, offset, start, false);
+            }
+            int before = zone.offsetAt(start - 1);
+            if (before > offset) {
+                return new OffsetWindow(start, end, offset, start + before - offset, false);
+            }
+            boolean gapFires = before < offset && FireTimes.countLocal(schedule, start + before, start + offset) > 0;
+            return new OffsetWindow(start, end, offset, start, gapFires);
+        }
+    }
+}
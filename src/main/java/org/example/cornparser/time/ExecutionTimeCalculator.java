@@ -0,0 +1,288 @@
+package org.example.cornparser.time;
+
+import org.example.cornparser.model.CronSchedule;
+
+import static org.example.cornparser.time.CalendarMath.SECONDS_PER_DAY;
+import static org.example.cornparser.time.CalendarMath.SECONDS_PER_MINUTE;
+
+/**
+ * Computes next and previous fire times of a {@link CronSchedule} directly from its field bitmasks.
+ * The search skips whole months, days and hours using bit scans and works purely on primitives.
+ * <p>
+ * Day matching follows the cron rule: when both day of month and day of week are restricted, a day matches
+ * if either field matches; when one of them is a wildcard (covers its whole range), only the other applies.
+ * DST gaps and overlaps are resolved by {@link ZoneTransitions}: jobs scheduled inside a gap fire once when
+ * the gap ends, and jobs scheduled inside an overlap fire once, on the first occurrence.
+ */
+public final class ExecutionTimeCalculator {
+    /** Returned by the primitive methods when the schedule never fires. */
+    public static final long NO_EXECUTION = Long.MIN_VALUE;
+
+    private static final long ALL_DAYS_OF_MONTH = 0xFFFFFFFEL;   // Bits 1-31
+    private static final int ALL_DAYS_OF_WEEK = 0x7F;            // Bits 0-6
+    private static final long WEEK_SPREAD = 0x10204081L;         // Repeats a 7-bit pattern five times
+    private static final int SEARCH_YEARS = 400;                 // Full Gregorian cycle
+
+    private ExecutionTimeCalculator() {
+    }
+
+    /**
+     * Returns the first fire time strictly after the given instant.
+     *
+     * @param schedule    The parsed schedule.
+     * @param epochSecond Seconds since the epoch to search from (exclusive).
+     * @param zone        Transition table of the zone the schedule is evaluated in.
+     * @return Fire time in seconds since the epoch, or {@link #NO_EXECUTION} if the schedule never fires.
+     */
+    public static long next(CronSchedule schedule, long epochSecond, ZoneTransitions zone) {
+        if (!canFire(schedule)) {
+            return NO_EXECUTION;
+        }
+        long local = Math.floorDiv(epochSecond + zone.offsetAt(epochSecond), SECONDS_PER_MINUTE) * SECONDS_PER_MINUTE
+                + SECONDS_PER_MINUTE;
+        while (true) {
+            long candidate = nextLocal(schedule, local);
+            if (candidate == NO_EXECUTION) {
+                return NO_EXECUTION;
+            }
+            long instant = zone.toEpochSecond(candidate);
+            if (instant > epochSecond) {
+                return instant;
+            }
+            local = candidate + SECONDS_PER_MINUTE;  // Repeated local time inside an overlap, already fired
+        }
+    }
+
+    /**
+     * Returns the last fire time strictly before the given instant.
+     *
+     * @param schedule    The parsed schedule.
+     * @param epochSecond Seconds since the epoch to search from (exclusive).
+     * @param zone        Transition table of the zone the schedule is evaluated in.
+     * @return Fire time in seconds since the epoch, or {@link #NO_EXECUTION} if the schedule never fired.
+     */
+    public static long previous(CronSchedule schedule, long epochSecond, ZoneTransitions zone) {
+        if (!canFire(schedule)) {
+            return NO_EXECUTION;
+        }
+        // The latest local time that can map before the instant uses the larger of the recent offsets.
+        int offset = Math.max(zone.offsetAt(epochSecond), zone.offsetAt(epochSecond - SECONDS_PER_DAY));
+        long local = Math.floorDiv(epochSecond + offset, SECONDS_PER_MINUTE) * SECONDS_PER_MINUTE;
+        while (true) {
+            long candidate = previousLocal(schedule, local);
+            if (candidate == NO_EXECUTION) {
+                return NO_EXECUTION;
+            }
+            long instant = zone.toEpochSecond(candidate);
+            if (instant < epochSecond) {
+                return instant;
+            }
+            local = candidate - SECONDS_PER_MINUTE;
+        }
+    }
+
+    /**
+     * Returns the first matching local minute at or after the given local epoch second.
+     *
+     * @return Local epoch second of the match, or {@link #NO_EXECUTION} if none exists within the search window.
+     */
+    static long nextLocal(CronSchedule schedule, long localEpochSecond) {
+        long monthBits = schedule.getMonthBits() & 0xFFFFFFFFL;
+        long hourBits = schedule.getHourBits() & 0xFFFFFFFFL;
+        long minuteBits = schedule.getMinuteBits();
+
+        long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) (localEpochSecond - epochDay * SECONDS_PER_DAY);
+        long date = CalendarMath.civil(epochDay);
+        int year = CalendarMath.year(date);
+        int month = CalendarMath.month(date);
+        int day = CalendarMath.day(date);
+        int hour = secondOfDay / 3_600;
+        int minute = (secondOfDay / SECONDS_PER_MINUTE) % 60;
+        int lastYear = year + SEARCH_YEARS;
+
+        while (year <= lastYear) {
+            int m = nextBit(monthBits, month);
+            if (m < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (m != month) {
+                month = m;
+                day = 1;
+                hour = 0;
+                minute = 0;
+            }
+            int d = nextBit(dayBits(schedule, year, month), day);
+            if (d < 0) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (d != day) {
+                day = d;
+                hour = 0;
+                minute = 0;
+            }
+            int h = nextBit(hourBits, hour);
+            if (h < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (h != hour) {
+                hour = h;
+                minute = 0;
+            }
+            int min = nextBit(minuteBits, minute);
+            if (min < 0) {
+                hour++;
+                minute = 0;
+                continue;
+            }
+            return CalendarMath.localEpochSecond(year, month, day, hour, min);
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Returns the last matching local minute at or before the given local epoch second.
+     *
+     * @return Local epoch second of the match, or {@link #NO_EXECUTION} if none exists within the search window.
+     */
+    static long previousLocal(CronSchedule schedule, long localEpochSecond) {
+        long monthBits = schedule.getMonthBits() & 0xFFFFFFFFL;
+        long hourBits = schedule.getHourBits() & 0xFFFFFFFFL;
+        long minuteBits = schedule.getMinuteBits();
+
+        long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) (localEpochSecond - epochDay * SECONDS_PER_DAY);
+        long date = CalendarMath.civil(epochDay);
+        int year = CalendarMath.year(date);
+        int month = CalendarMath.month(date);
+        int day = CalendarMath.day(date);
+        int hour = secondOfDay / 3_600;
+        int minute = (secondOfDay / SECONDS_PER_MINUTE) % 60;
+        int firstYear = year - SEARCH_YEARS;
+
+        while (year >= firstYear) {
+            int m = previousBit(monthBits, month);
+            if (m < 0) {
+                year--;
+                month = 12;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                continue;
+            }
+            if (m != month) {
+                month = m;
+                day = 31;
+                hour = 23;
+                minute = 59;
+            }
+            int d = previousBit(dayBits(schedule, year, month), day);
+            if (d < 0) {
+                month--;
+                day = 31;
+                hour = 23;
+                minute = 59;
+                continue;
+            }
+            if (d != day) {
+                day = d;
+                hour = 23;
+                minute = 59;
+            }
+            int h = previousBit(hourBits, hour);
+            if (h < 0) {
+                day--;
+                hour = 23;
+                minute = 59;
+                continue;
+            }
+            if (h != hour) {
+                hour = h;
+                minute = 59;
+            }
+            int min = previousBit(minuteBits, minute);
+            if (min < 0) {
+                hour--;
+                minute = 59;
+                continue;
+            }
+            return CalendarMath.localEpochSecond(year, month, day, hour, min);
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Returns the matching days of the given month as a bitmask (bit {@code d} set when day {@code d} matches),
+     * combining day of month and day of week with the cron OR rule.
+     */
+    static long dayBits(CronSchedule schedule, int year, int month) {
+        int length = CalendarMath.daysInMonth(year, month);
+        long lengthMask = -1L >>> (63 - length) & ~1L;
+        long daysOfMonth = schedule.getDayOfMonthBits() & ALL_DAYS_OF_MONTH;
+        int daysOfWeek = schedule.getDayOfWeekBits() & ALL_DAYS_OF_WEEK;
+
+        // Rotate the weekday pattern so bit 0 is the weekday of the 1st, then repeat it across the month.
+        int firstDayOfWeek = CalendarMath.dayOfWeek(CalendarMath.epochDay(year, month, 1));
+        long week = ((daysOfWeek >>> firstDayOfWeek) | (daysOfWeek << (7 - firstDayOfWeek))) & ALL_DAYS_OF_WEEK;
+        long weekdayMatches = (week * WEEK_SPREAD) << 1;
+
+        if (daysOfMonth == ALL_DAYS_OF_MONTH || daysOfWeek == ALL_DAYS_OF_WEEK) {
+            return daysOfMonth & weekdayMatches & lengthMask;
+        }
+        return (daysOfMonth | weekdayMatches) & lengthMask;
+    }
+
+    /**
+     * Returns false if no calendar date can ever satisfy the schedule, so searches don't run to their limit.
+     */
+    private static boolean canFire(CronSchedule schedule) {
+        int months = schedule.getMonthBits() & 0x1FFE;
+        long daysOfMonth = schedule.getDayOfMonthBits() & ALL_DAYS_OF_MONTH;
+        int daysOfWeek = schedule.getDayOfWeekBits() & ALL_DAYS_OF_WEEK;
+        if (schedule.getMinuteBits() == 0 || schedule.getHourBits() == 0 || months == 0) {
+            return false;
+        }
+        if (daysOfWeek != 0 && daysOfWeek != ALL_DAYS_OF_WEEK) {
+            return true;  // A restricted weekday occurs in every month
+        }
+        if (daysOfWeek == 0 && daysOfMonth == ALL_DAYS_OF_MONTH) {
+            return false;
+        }
+        // Only the day of month decides: it must fit the longest variant of at least one month.
+        int firstDay = Long.numberOfTrailingZeros(daysOfMonth);
+        for (int month = 1; month <= 12; month++) {
+            if ((months & (1 << month)) != 0 && firstDay <= CalendarMath.daysInMonth(2000, month)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int nextBit(long bits, int from) {
+        if (from > 63) {
+            return -1;
+        }
+        long remaining = bits & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static int previousBit(long bits, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        long remaining = bits & (-1L >>> (63 - from));
+        return remaining == 0 ? -1 : 63 - Long.numberOfLeadingZeros(remaining);
+    }
+}
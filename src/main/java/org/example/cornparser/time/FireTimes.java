@@ -0,0 +1,185 @@
+package org.example.cornparser.time;
+
+import org.example.cornparser.model.CronSchedule;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.example.cornparser.time.CalendarMath.SECONDS_PER_DAY;
+import static org.example.cornparser.time.CalendarMath.SECONDS_PER_MINUTE;
+
+/**
+ * Enumerates and counts the fire times of a {@link CronSchedule} within an interval without materializing them.
+ * Fire times follow {@link ExecutionTimeCalculator}: a time skipped by a DST gap fires once when the gap ends, and
+ * a time repeated by an overlap fires once, on its first occurrence.
+ * <p>
+ * Counting is arithmetic. Local-to-instant resolution never goes backwards, so the fire times in an interval are
+ * exactly the matching local minutes of one contiguous local range. Those are counted per month with popcounts
+ * over the field bitmasks. Then, for each DST gap in the interval, the local minutes that all resolve to the
+ * gap's end are collapsed into one firing.
+ */
+public final class FireTimes {
+    private static final long DAYS_PER_CYCLE = 146_097;  // The Gregorian calendar repeats every 400 years
+
+    private FireTimes() {
+    }
+
+    /**
+     * Returns the fire times in {@code [fromEpochSecond, toEpochSecond)} in ascending order, computing each
+     * one only when it is requested.
+     *
+     * @param schedule        The parsed schedule.
+     * @param fromEpochSecond Start of the interval (inclusive).
+     * @param toEpochSecond   End of the interval (exclusive).
+     * @param zone            Transition table of the zone the schedule is evaluated in.
+     * @return Iterator over fire times in seconds since the epoch.
+     */
+    public static PrimitiveIterator.OfLong iterator(CronSchedule schedule, long fromEpochSecond, long toEpochSecond,
+                                                    ZoneTransitions zone) {
+        return new PrimitiveIterator.OfLong() {
+            private long next = fromEpochSecond < toEpochSecond
+                    ? ExecutionTimeCalculator.next(schedule, fromEpochSecond - 1, zone)
+                    : ExecutionTimeCalculator.NO_EXECUTION;
+
+            @Override
+            public boolean hasNext() {
+                return next != ExecutionTimeCalculator.NO_EXECUTION && next < toEpochSecond;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long current = next;
+                next = ExecutionTimeCalculator.next(schedule, current, zone);
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Counts the fire times in {@code [fromEpochSecond, toEpochSecond)}. Costs one step per month and per DST
+     * transition in the interval, capped at one 400-year calendar cycle.
+     *
+     * @param schedule        The parsed schedule.
+     * @param fromEpochSecond Start of the interval (inclusive).
+     * @param toEpochSecond   End of the interval (exclusive).
+     * @param zone            Transition table of the zone the schedule is evaluated in.
+     * @return Number of fire times.
+     */
+    public static long count(CronSchedule schedule, long fromEpochSecond, long toEpochSecond, ZoneTransitions zone) {
+        if (fromEpochSecond >= toEpochSecond) {
+            return 0;
+        }
+        long count = countLocal(schedule, firstLocalAtOrAfter(fromEpochSecond, zone),
+                firstLocalAtOrAfter(toEpochSecond, zone));
+
+        // Every local minute inside a gap, and the one right after it, fires at the end of the gap: count them once.
+        for (long transition = zone.nextTransition(fromEpochSecond - 1); transition < toEpochSecond;
+             transition = zone.nextTransition(transition)) {
+            int before = zone.offsetAt(transition - 1);
+            int after = zone.offsetAt(transition);
+            if (after > before) {
+                long collapsed = countLocal(schedule, transition + before, transition + after + 1);
+                count -= Math.max(collapsed - 1, 0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the earliest local epoch second that resolves to the given instant or later.
+     */
+    private static long firstLocalAtOrAfter(long epochSecond, ZoneTransitions zone) {
+        long local = epochSecond + zone.offsetAt(epochSecond - 1);
+        if (zone.toEpochSecond(local) >= epochSecond) {
+            return local;
+        }
+        // Inside the repeated hour of an overlap, whose local times resolved to the earlier offset: skip to its end.
+        long transition = zone.previousTransition(epochSecond - 1);
+        return transition + zone.offsetAt(transition - 1);
+    }
+
+    /**
+     * Counts the matching local minutes in {@code [fromLocal, toLocal)}, both in local epoch seconds.
+     */
+    static long countLocal(CronSchedule schedule, long fromLocal, long toLocal) {
+        long from = ceilMinute(fromLocal);
+        long to = ceilMinute(toLocal);
+        if (from >= to) {
+            return 0;
+        }
+        long fromDay = Math.floorDiv(from, SECONDS_PER_DAY);
+        long toDay = Math.floorDiv(to, SECONDS_PER_DAY);
+        long perDay = (long) Long.bitCount(schedule.getMinuteBits()) * Integer.bitCount(schedule.getHourBits());
+        return countDays(schedule, fromDay, toDay) * perDay
+                - partialDay(schedule, fromDay, (int) (from - fromDay * SECONDS_PER_DAY))
+                + partialDay(schedule, toDay, (int) (to - toDay * SECONDS_PER_DAY));
+    }
+
+    /**
+     * Counts the matching days in {@code [fromDay, toDay)}, as epoch days.
+     */
+    private static long countDays(CronSchedule schedule, long fromDay, long toDay) {
+        long cycles = (toDay - fromDay) / DAYS_PER_CYCLE;
+        if (cycles > 0) {
+            long perCycle = countDaysByMonth(schedule, fromDay, fromDay + DAYS_PER_CYCLE);
+            return cycles * perCycle + countDaysByMonth(schedule, fromDay + cycles * DAYS_PER_CYCLE, toDay);
+        }
+        return countDaysByMonth(schedule, fromDay, toDay);
+    }
+
+    private static long countDaysByMonth(CronSchedule schedule, long fromDay, long toDay) {
+        int monthBits = schedule.getMonthBits();
+        long count = 0;
+        long date = CalendarMath.civil(fromDay);
+        int year = CalendarMath.year(date);
+        int month = CalendarMath.month(date);
+        long monthStart = fromDay - CalendarMath.day(date) + 1;
+        while (monthStart < toDay) {
+            int length = CalendarMath.daysInMonth(year, month);
+            if ((monthBits & (1 << month)) != 0) {
+                int firstDay = (int) (Math.max(fromDay, monthStart) - monthStart) + 1;
+                int lastDay = (int) (Math.min(toDay, monthStart + length) - monthStart);
+                long range = (-1L >>> (63 - lastDay)) & (-1L << firstDay);
+                count += Long.bitCount(ExecutionTimeCalculator.dayBits(schedule, year, month) & range);
+            }
+            monthStart += length;
+            if (++month > 12) {
+                month = 1;
+                year++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the matching minutes of the given day that are earlier than {@code secondOfDay} (a whole minute).
+     */
+    private static long partialDay(CronSchedule schedule, long epochDay, int secondOfDay) {
+        if (secondOfDay == 0) {
+            return 0;
+        }
+        long date = CalendarMath.civil(epochDay);
+        int month = CalendarMath.month(date);
+        if ((schedule.getMonthBits() & (1 << month)) == 0
+                || (ExecutionTimeCalculator.dayBits(schedule, CalendarMath.year(date), month)
+                & (1L << CalendarMath.day(date))) == 0) {
+            return 0;
+        }
+        int hour = secondOfDay / 3_600;
+        int minute = (secondOfDay / SECONDS_PER_MINUTE) % 60;
+        long minuteBits = schedule.getMinuteBits();
+        int hourBits = schedule.getHourBits();
+        long count = (long) Integer.bitCount(hourBits & ((1 << hour) - 1)) * Long.bitCount(minuteBits);
+        if ((hourBits & (1 << hour)) != 0) {
+            count += Long.bitCount(minuteBits & ((1L << minute) - 1));
+        }
+        return count;
+    }
+
+    private static long ceilMinute(long localEpochSecond) {
+        return -Math.floorDiv(-localEpochSecond, SECONDS_PER_MINUTE) * SECONDS_PER_MINUTE;
+    }
+}
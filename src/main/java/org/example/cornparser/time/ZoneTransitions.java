@@ -0,0 +1,174 @@
+package org.example.cornparser.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Primitive table of a zone's UTC offset transitions, so offset lookups and local-to-instant conversions
+ * can be done with a binary search over {@code long[]} instead of allocating {@code java.time} objects.
+ * Transitions between 1900 and 2400 are precomputed; instants outside that window fall back to {@link ZoneRules}.
+ * <p>
+ * Local times are resolved the way a cron daemon fires jobs across DST changes:
+ * a local time skipped by a gap resolves to the instant the gap ends, and a local time repeated by an
+ * overlap resolves to its first occurrence (the earlier offset).
+ */
+public final class ZoneTransitions {
+    private static final ConcurrentMap<ZoneId, ZoneTransitions> CACHE = new ConcurrentHashMap<>();
+    private static final long WINDOW_START = CalendarMath.epochDay(1900, 1, 1) * CalendarMath.SECONDS_PER_DAY;
+    private static final long WINDOW_END = CalendarMath.epochDay(2400, 1, 1) * CalendarMath.SECONDS_PER_DAY;
+
+    private final ZoneRules rules;
+    private final int baseOffset;           // Offset in force before the first transition
+    private final long[] epochSeconds;      // Transition instants, ascending
+    private final int[] offsetsBefore;
+    private final int[] offsetsAfter;
+    private final long[] localStarts;       // First local second affected by each transition
+
+    private ZoneTransitions(ZoneId zone) {
+        this.rules = zone.getRules();
+        this.baseOffset = rules.getOffset(Instant.ofEpochSecond(WINDOW_START)).getTotalSeconds();
+
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        if (!rules.isFixedOffset()) {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(WINDOW_START));
+            while (transition != null && transition.toEpochSecond() < WINDOW_END) {
+                transitions.add(transition);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+
+        int count = transitions.size();
+        this.epochSeconds = new long[count];
+        this.offsetsBefore = new int[count];
+        this.offsetsAfter = new int[count];
+        this.localStarts = new long[count];
+        for (int i = 0; i < count; i++) {
+            ZoneOffsetTransition transition = transitions.get(i);
+            epochSeconds[i] = transition.toEpochSecond();
+            offsetsBefore[i] = transition.getOffsetBefore().getTotalSeconds();
+            offsetsAfter[i] = transition.getOffsetAfter().getTotalSeconds();
+            localStarts[i] = epochSeconds[i] + Math.min(offsetsBefore[i], offsetsAfter[i]);
+        }
+    }
+
+    /**
+     * Returns the shared transition table for the zone, building it on first use.
+     *
+     * @param zone The time zone.
+     * @return Transition table for the zone.
+     */
+    public static ZoneTransitions of(ZoneId zone) {
+        ZoneTransitions transitions = CACHE.get(zone);
+        return transitions != null ? transitions : CACHE.computeIfAbsent(zone, ZoneTransitions::new);
+    }
+
+    /**
+     * Returns the UTC offset in force at the given instant.
+     *
+     * @param epochSecond Seconds since the epoch.
+     * @return Offset in seconds.
+     */
+    public int offsetAt(long epochSecond) {
+        if (epochSecond < WINDOW_START || epochSecond >= WINDOW_END) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = lastAtOrBefore(epochSeconds, epochSecond);
+        return index < 0 ? baseOffset : offsetsAfter[index];
+    }
+
+    /**
+     * Converts a local epoch second to an instant. Local times inside a gap resolve to the end of the gap,
+     * local times inside an overlap resolve to their earlier occurrence.
+     *
+     * @param localEpochSecond Seconds since 1970-01-01T00:00 on the local clock.
+     * @return Seconds since the epoch.
+     */
+    public long toEpochSecond(long localEpochSecond) {
+        if (localEpochSecond < WINDOW_START + CalendarMath.SECONDS_PER_DAY
+                || localEpochSecond >= WINDOW_END - CalendarMath.SECONDS_PER_DAY) {
+            return toEpochSecondSlow(localEpochSecond);
+        }
+        int index = lastAtOrBefore(localStarts, localEpochSecond);
+        if (index < 0) {
+            return localEpochSecond - baseOffset;
+        }
+        int before = offsetsBefore[index];
+        int after = offsetsAfter[index];
+        long localEnd = epochSeconds[index] + Math.max(before, after);
+        if (localEpochSecond >= localEnd) {
+            return localEpochSecond - after;
+        }
+        return after > before ? epochSeconds[index] : localEpochSecond - before;
+    }
+
+    /**
+     * Returns the first offset transition strictly after the given instant.
+     *
+     * @param epochSecond Seconds since the epoch.
+     * @return Seconds since the epoch of the transition, or {@link Long#MAX_VALUE} if there is none.
+     */
+    public long nextTransition(long epochSecond) {
+        long after = epochSecond;
+        if (epochSecond >= WINDOW_START && epochSecond < WINDOW_END) {
+            int index = lastAtOrBefore(epochSeconds, epochSecond) + 1;
+            if (index < epochSeconds.length) {
+                return epochSeconds[index];
+            }
+            after = WINDOW_END - 1;
+        }
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(after));
+        return transition == null ? Long.MAX_VALUE : transition.toEpochSecond();
+    }
+
+    /**
+     * Returns the last offset transition at or before the given instant.
+     *
+     * @param epochSecond Seconds since the epoch.
+     * @return Seconds since the epoch of the transition, or {@link Long#MIN_VALUE} if there is none.
+     */
+    public long previousTransition(long epochSecond) {
+        long atOrBefore = epochSecond;
+        if (epochSecond >= WINDOW_START && epochSecond < WINDOW_END) {
+            int index = lastAtOrBefore(epochSeconds, epochSecond);
+            if (index >= 0) {
+                return epochSeconds[index];
+            }
+            atOrBefore = WINDOW_START;
+        }
+        ZoneOffsetTransition transition = rules.previousTransition(Instant.ofEpochSecond(atOrBefore + 1));
+        return transition == null ? Long.MIN_VALUE : transition.toEpochSecond();
+    }
+
+    private long toEpochSecondSlow(long localEpochSecond) {
+        LocalDateTime local = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(local);
+        if (transition == null) {
+            return localEpochSecond - rules.getOffset(local).getTotalSeconds();
+        }
+        return transition.isGap()
+                ? transition.toEpochSecond()
+                : localEpochSecond - transition.getOffsetBefore().getTotalSeconds();
+    }
+
+    private static int lastAtOrBefore(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+}
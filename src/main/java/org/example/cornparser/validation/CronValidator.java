@@ -25,11 +25,16 @@ public class CronValidator {
      * - Wildcard (*)
      * - Single numbers (e.g., "5")
      * - Ranges (e.g., "10-20")
+     * - Hashed values spread by a job key (e.g., "H", "H/15", "H(0-29)", "H(0-29)/10")
      */
     public static void validateCronField(String field, int min, int max, String fieldName) {
         if (field.equals("*")) {
             return; // Wildcard is valid and means "any value", no need to validate further.
         }
+        if (field.startsWith("H")) {
+            validateHashedField(field, min, max, fieldName);
+            return;
+        }
 
         // Split the field by commas, as cron expressions can contain multiple values (e.g., "5,10,15")
         String[] parts = field.split(",");
@@ -66,6 +71,34 @@ public class CronValidator {
     }
 
 
+    /**
+     * Validates a hashed field: "H" optionally followed by a range in parentheses, then optionally by a step.
+     * Unlike the other forms, trailing separators are not tolerated.
+     *
+     * @param field     The field, starting with "H".
+     * @param min       The minimum allowed value.
+     * @param max       The maximum allowed value.
+     * @param fieldName The name of the field being validated (for error messages).
+     * @throws IllegalArgumentException if the field is not a well-formed hashed field.
+     */
+    private static void validateHashedField(String field, int min, int max, String fieldName) {
+        String rest = field.substring(1);
+        if (rest.startsWith("(")) {
+            int close = rest.indexOf(')');
+            String range = close < 0 ? "" : rest.substring(1, close);
+            if (range.indexOf('-') < 0 || range.indexOf('-') != range.lastIndexOf('-')) {
+                throw new IllegalArgumentException("Invalid hash range in " + fieldName + ": " + field);
+            }
+            validateRangeOrNumber(range, min, max, fieldName);
+            rest = rest.substring(close + 1);
+        }
+        if (rest.startsWith("/")) {
+            validateNumber(rest.substring(1), 1, max - min, fieldName + " step");
+        } else if (!rest.isEmpty()) {
+            throw new IllegalArgumentException("Invalid hash format in " + fieldName + ": " + field);
+        }
+    }
+
     /**
      * Validates if a given string value represents a valid number within a specified range.
      *
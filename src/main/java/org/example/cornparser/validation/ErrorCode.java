@@ -0,0 +1,44 @@
+package org.example.cornparser.validation;
+
+/**
+ * Reason a cron expression was rejected, as reported by exception-free parsing and validation.
+ */
+public enum ErrorCode {
+    /** The expression does not have exactly six whitespace-separated fields. */
+    FIELD_COUNT("wrong number of fields"),
+    /** A value is not a decimal number. */
+    INVALID_NUMBER("invalid number"),
+    /** A single value or list element is outside the field's range. */
+    VALUE_OUT_OF_RANGE("value out of range"),
+    /** A range bound is outside the field's range, or its start is after its end. */
+    INVALID_RANGE("invalid range"),
+    /** A range has no end number. */
+    INVALID_RANGE_END("invalid range end"),
+    /** A range is followed by characters other than trailing dashes. */
+    INVALID_RANGE_FORMAT("invalid range format"),
+    /** A step has no number. */
+    INVALID_STEP("invalid step"),
+    /** A step is zero or larger than the field's span. */
+    STEP_OUT_OF_RANGE("step out of range"),
+    /** A step is followed by characters other than trailing slashes. */
+    INVALID_STEP_FORMAT("invalid step format"),
+    /** A hashed field's range is not of the form "(a-b)". */
+    INVALID_HASH_RANGE("invalid hash range"),
+    /** A list has an empty element, such as "1,,2". */
+    EMPTY_LIST_ELEMENT("empty list element"),
+    /** A character that cannot appear at this position. */
+    UNEXPECTED_CHARACTER("unexpected character");
+
+    private final String description;
+
+    ErrorCode(String description) {
+        this.description = description;
+    }
+
+    /**
+     * @return Short lower-case description, as used in exception messages.
+     */
+    public String getDescription() {
+        return description;
+    }
+}
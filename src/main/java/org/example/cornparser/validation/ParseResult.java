@@ -0,0 +1,65 @@
+package org.example.cornparser.validation;
+
+import lombok.Data;
+import org.example.cornparser.model.CronExpression;
+
+/**
+ * Outcome of parsing or validating a cron expression without exceptions: either the parsed expression, or an
+ * error code with the field and character offset where parsing stopped.
+ * <p>
+ * Validation returns the shared {@link #VALID} instance on success, so validating a well-formed expression
+ * allocates nothing.
+ */
+@Data
+public final class ParseResult {
+    /** Result of a successful validation, which carries no expression. */
+    public static final ParseResult VALID = new ParseResult(null, null, -1, -1);
+
+    private static final String[] FIELD_NAMES = {"minute", "hour", "day of month", "month", "day of week"};
+
+    private final CronExpression expression;
+    private final ErrorCode errorCode;
+    private final int field;
+    private final int offset;
+
+    private ParseResult(CronExpression expression, ErrorCode errorCode, int field, int offset) {
+        this.expression = expression;
+        this.errorCode = errorCode;
+        this.field = field;
+        this.offset = offset;
+    }
+
+    /**
+     * @param expression The parsed expression.
+     * @return A successful result holding the expression.
+     */
+    public static ParseResult of(CronExpression expression) {
+        return new ParseResult(expression, null, -1, -1);
+    }
+
+    /**
+     * @param errorCode Why the expression was rejected.
+     * @param field     Index of the offending schedule field (0 for minute to 4 for day of week), or -1 if the
+     *                  error concerns the whole expression.
+     * @param offset    Index of the offending character in the input.
+     * @return A failed result.
+     */
+    public static ParseResult failure(ErrorCode errorCode, int field, int offset) {
+        return new ParseResult(null, errorCode, field, offset);
+    }
+
+    /**
+     * @return Whether the expression was accepted.
+     */
+    public boolean isValid() {
+        return errorCode == null;
+    }
+
+    /**
+     * @return Name of the offending field (e.g. "day of month"), or null if the error concerns the whole
+     * expression or the result is valid.
+     */
+    public String getFieldName() {
+        return field < 0 ? null : FIELD_NAMES[field];
+    }
+}
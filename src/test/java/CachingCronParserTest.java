@@ -0,0 +1,54 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.CachingCronParser;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingCronParserTest {
+    private final CachingCronParser parser = new CachingCronParser();
+
+    @Test
+    public void testCachesScheduleAndKeepsCommandSeparate() {
+        CronExpression first = parser.parse("*/5 * * * * /usr/bin/first");
+        CronExpression second = parser.parse("*/5 * * * * /usr/bin/second");
+
+        assertSame(first.getSchedule(), second.getSchedule());
+        assertEquals("/usr/bin/second", second.getCommand());
+        assertEquals(1, parser.getMissCount());
+        assertEquals(1, parser.getHitCount());
+    }
+
+    @Test
+    public void testInternsEquivalentSchedules() {
+        CronExpression wildcard = parser.parse("* * * * * /usr/bin/find");
+        CronExpression range = parser.parse("0-59 * * * * /usr/bin/find");
+
+        assertSame(wildcard.getSchedule(), range.getSchedule());
+        assertEquals(2, parser.getMissCount());
+    }
+
+    @Test
+    public void testMatchesDefaultParser() {
+        String expression = "  */15 0 1,15 * 1-5   /usr/bin/find ";
+
+        assertEquals(new DefaultCronParser().parse(expression), parser.parse(expression));
+    }
+
+    @Test
+    public void testEvictsBeyondMaximumSize() {
+        CachingCronParser small = new CachingCronParser(16);
+        for (int minute = 0; minute < 60; minute++) {
+            small.parse(minute + " * * * * /usr/bin/find");
+        }
+
+        assertTrue(small.getCachedScheduleCount() <= 16);
+    }
+
+    @Test
+    public void testRejectsInvalidExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("*/15 0 * 1-5 /usr/bin/find"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("60 * * * * /usr/bin/find"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(""));
+        assertEquals(0, parser.getHitCount());
+    }
+}
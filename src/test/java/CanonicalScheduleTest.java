@@ -0,0 +1,113 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+import org.example.cornparser.parser.CachingCronParser;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.parser.ScheduleRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanonicalScheduleTest {
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testEquivalentSpellingsShareCanonicalFormAndFingerprint() {
+        String[][] equivalents = {
+                {"* * * * *", "0-59 * * * *", "*/1 * * * *", "0/1 0-23 1-31 1-12 0-6"},
+                {"1,2,3,4,5 * * * *", "1-5 * * * *"},
+                {"*/15 0 1,15 * 1-5", "0,15,30,45 0 1,15 1-12 1,2,3,4,5", "0/15 0-0 15,1 * 1-5"},
+                {"5/20 */12 * 1/3 *", "5,25,45 0,12 * 1,4,7,10 0/1"},
+        };
+        String[] canonical = {"* * * * *", "1-5 * * * *", "*/15 0 1,15 * 1-5", "5/20 0,12 * */3 *"};
+        for (int i = 0; i < equivalents.length; i++) {
+            CronSchedule first = parser.parseSchedule(equivalents[i][0]);
+            for (String spelling : equivalents[i]) {
+                CronSchedule schedule = parser.parseSchedule(spelling);
+                assertEquals(canonical[i], schedule.toCanonicalString(), spelling);
+                assertEquals(first.fingerprint(), schedule.fingerprint(), spelling);
+            }
+        }
+        assertEquals("0 12 * * * /usr/bin/noon", parser.parse("0 12 1-31 * */1 /usr/bin/noon").toCanonicalString());
+    }
+
+    @Test
+    public void testCanonicalFormParsesBackToEqualSchedule() {
+        Random random = new Random(11);
+        Set<Long> fingerprints = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            CronSchedule schedule = new CronSchedule(
+                    randomBits(random, 0, 59), (int) randomBits(random, 0, 23), (int) randomBits(random, 1, 31),
+                    (int) randomBits(random, 1, 12), (byte) randomBits(random, 0, 6));
+            assertEquals(schedule, parser.parseSchedule(schedule.toCanonicalString()), schedule::toCanonicalString);
+            fingerprints.add(schedule.fingerprint());
+        }
+        assertTrue(fingerprints.size() > 9_990);
+        assertThrows(IllegalStateException.class, () -> new CronSchedule(0, 1, 2, 2, (byte) 1).toCanonicalString());
+    }
+
+    @Test
+    public void testFingerprintIsStable() {
+        // Persisted fingerprints must survive restarts and releases.
+        assertEquals(0x15840F4B85062056L, parser.parseSchedule("*/15 0 1,15 * 1-5").fingerprint());
+    }
+
+    @Test
+    public void testRegistryInternsEquivalentExpressions() {
+        ScheduleRegistry registry = new ScheduleRegistry();
+        CronExpression wildcard = registry.intern(parser.parse("* * * * * /usr/bin/a"));
+        CronExpression range = registry.intern(parser.parse("0-59 0-23 * * * /usr/bin/b"));
+        CronExpression again = registry.intern(wildcard);
+
+        assertSame(wildcard.getSchedule(), range.getSchedule());
+        assertSame(wildcard, again);
+        assertEquals("/usr/bin/b", range.getCommand());
+
+        CachingCronParser first = new CachingCronParser(100, registry);
+        CachingCronParser second = new CachingCronParser(100, registry);
+        assertSame(wildcard.getSchedule(), first.parse("*/1 * * * * /usr/bin/c").getSchedule());
+        assertSame(first.parse("1,2,3 * * * * /usr/bin/d").getSchedule(),
+                second.parse("1-3 * * * * /usr/bin/e").getSchedule());
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testUnboundedRegistryKeepsEverySchedule() {
+        ScheduleRegistry registry = new ScheduleRegistry();
+        CronSchedule[] interned = new CronSchedule[500];
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = registry.intern(parser.parseSchedule(i % 60 + " " + i / 60 + " * * *"));
+        }
+
+        assertEquals(interned.length, registry.size());
+        for (int i = 0; i < interned.length; i++) {
+            assertSame(interned[i], registry.intern(parser.parseSchedule(i % 60 + " " + i / 60 + " * * *")));
+        }
+    }
+
+    private static long randomBits(Random random, int min, int max) {
+        long bits;
+        do {
+            switch (random.nextInt(4)) {
+                case 0:  // Contiguous range
+                    int from = min + random.nextInt(max - min + 1);
+                    bits = -1L >>> (63 - (from + random.nextInt(max - from + 1))) & (-1L << from);
+                    break;
+                case 1:  // Step
+                    int start = min + random.nextInt(max - min + 1);
+                    int step = 1 + random.nextInt(max - min + 1);
+                    bits = 0;
+                    for (int value = start; value <= max; value += step) {
+                        bits |= 1L << value;
+                    }
+                    break;
+                default:
+                    bits = random.nextLong() & (-1L >>> (63 - max)) & (-1L << min);
+            }
+        } while (bits == 0);
+        return bits;
+    }
+}
@@ -0,0 +1,89 @@
+import org.example.cornparser.io.CatalogSnapshot;
+import org.example.cornparser.io.ScheduleCodec;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogSnapshotTest {
+    @TempDir
+    Path directory;
+
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testScheduleCodecRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(3 * ScheduleCodec.SCHEDULE_BYTES);
+        CronSchedule every = parser.parse("* * * * * /usr/bin/every").getSchedule();
+        CronSchedule sparse = parser.parse("59 23 31 12 6 /usr/bin/sparse").getSchedule();
+
+        ScheduleCodec.encode(every, buffer, 0);
+        ScheduleCodec.encode(sparse, buffer, ScheduleCodec.SCHEDULE_BYTES);
+        assertEquals(every, ScheduleCodec.decode(buffer, 0));
+        assertEquals(sparse, ScheduleCodec.decode(buffer, ScheduleCodec.SCHEDULE_BYTES));
+        assertEquals(0, buffer.position());
+
+        buffer.putLong(2 * ScheduleCodec.SCHEDULE_BYTES, -1L);  // Out-of-range bits are dropped on decode
+        assertEquals((1L << 60) - 1, ScheduleCodec.decode(buffer, 2 * ScheduleCodec.SCHEDULE_BYTES).getMinuteBits());
+    }
+
+    @Test
+    public void testSnapshotRoundTripWithSharedCommands() throws IOException {
+        List<CronExpression> expressions = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            expressions.add(parser.parse((i % 60) + " " + (i % 24) + " * * 1-5 /usr/bin/job" + (i % 10)));
+        }
+        expressions.add(parser.parse("*/15 0 1,15 * 1-5 /usr/bin/日本"));
+        Path file = directory.resolve("catalog.snap");
+
+        CatalogSnapshot.write(file, expressions);
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+
+        assertEquals(expressions.size(), snapshot.size());
+        assertEquals(11, snapshot.getCommandCount());
+        for (int i = 0; i < expressions.size(); i++) {
+            assertEquals(expressions.get(i), snapshot.get(i));
+        }
+        assertSame(snapshot.getCommand(3), snapshot.getCommand(13));  // Decoded once, then shared
+        assertEquals(16 + 1_001 * CatalogSnapshot.RECORD_BYTES + 12 * 4 + 10 * 13
+                + "/usr/bin/日本".getBytes(StandardCharsets.UTF_8).length, Files.size(file));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(expressions.size()));
+        assertFalse(Files.exists(directory.resolve("catalog.snap.tmp")));
+    }
+
+    @Test
+    public void testEmptySnapshotAndRewrite() throws IOException {
+        Path file = directory.resolve("catalog.snap");
+        CatalogSnapshot.write(file, List.of(parser.parse("0 0 * * * /usr/bin/old")));
+        CatalogSnapshot.write(file, List.of());
+
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+        assertEquals(0, snapshot.size());
+        assertEquals(0, snapshot.getCommandCount());
+    }
+
+    @Test
+    public void testRejectsForeignAndTruncatedFiles() throws IOException {
+        Path foreign = Files.write(directory.resolve("crontab"), "* * * * * /usr/bin/not-binary\n".getBytes());
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(foreign));
+
+        Path file = directory.resolve("catalog.snap");
+        CatalogSnapshot.write(file, List.of(parser.parse("0 0 * * * /usr/bin/nightly")));
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = Files.write(directory.resolve("truncated.snap"), Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(truncated));
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(Files.write(directory.resolve("tiny"), new byte[3])));
+    }
+}
@@ -0,0 +1,132 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.scheduler.CatchUp;
+import org.example.cornparser.scheduler.MisfirePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatchUpTest {
+    private static final String[] SCHEDULES = {
+            "*/5 * * * *", "0 * * * *", "30 2 * * *", "15 */3 * * 1-5", "0 0 1 * *", "H * * * *", "0 9 29 2 *",
+    };
+
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testFireAllMergesEveryJobsFireTimesInTimeOrder() throws InterruptedException {
+        List<CronExpression> jobs = catalog(200);
+        long from = Instant.parse("2024-03-01T10:17:30Z").toEpochMilli();
+        long to = Instant.parse("2024-03-03T04:00:00Z").toEpochMilli();
+        CatchUp catchUp = CatchUp.builder().zone(ZoneOffset.UTC).build();
+
+        List<long[]> fires = new ArrayList<>();
+        long count = catchUp.replay(jobs, from, to, (job, time) -> fires.add(new long[]{time, job}));
+
+        assertEquals(toStrings(expected(jobs, from, to, ZoneOffset.UTC)), toStrings(fires));
+        assertEquals(fires.size(), count);
+        assertTrue(count > 10_000);
+    }
+
+    @Test
+    public void testFireOnceReplaysTheLatestMissedFireAndSkipReplaysNothing() throws InterruptedException {
+        List<CronExpression> jobs = List.of(
+                parser.parse("*/5 * * * * /usr/bin/every-five"),
+                parser.parse("0 0 1 1 * /usr/bin/new-year"),
+                parser.parse("0 * * * * /usr/bin/hourly"),
+                parser.parse("*/10 * * * * /usr/bin/skipped"));
+        MisfirePolicy[] policies = {MisfirePolicy.FIRE_ONCE, MisfirePolicy.FIRE_ONCE, MisfirePolicy.FIRE_ALL,
+                MisfirePolicy.SKIP};
+        long from = Instant.parse("2024-06-01T10:00:00Z").toEpochMilli();
+        long to = Instant.parse("2024-06-01T12:02:00Z").toEpochMilli();
+
+        List<long[]> fires = new ArrayList<>();
+        long count = CatchUp.builder().zone(ZoneOffset.UTC).build()
+                .replay(jobs, job -> policies[job], from, to, (job, time) -> fires.add(new long[]{time, job}));
+
+        assertEquals(4, count);
+        assertArrayEquals(new long[]{from, 2}, fires.get(0));
+        assertArrayEquals(new long[]{from + 3_600_000L, 2}, fires.get(1));
+        assertArrayEquals(new long[]{from + 7_200_000L, 0}, fires.get(2));
+        assertArrayEquals(new long[]{from + 7_200_000L, 2}, fires.get(3));
+        assertEquals(0, CatchUp.builder().defaultPolicy(MisfirePolicy.SKIP).build()
+                .replay(jobs, from, to, (job, time) -> fail()));
+        assertEquals(0, CatchUp.builder().build().replay(jobs, to, from, (job, time) -> fail()));
+    }
+
+    @Test
+    public void testPartitionedReplayMatchesSequentialReplay() throws InterruptedException {
+        List<CronExpression> jobs = catalog(40_000);
+        ZoneId zone = ZoneId.of("America/New_York");
+        long from = Instant.parse("2024-03-10T05:30:00Z").toEpochMilli();  // Across the spring-forward gap
+        long to = Instant.parse("2024-03-10T09:00:00Z").toEpochMilli();
+        MisfirePolicy[] policies = MisfirePolicy.values();
+
+        List<long[]> sequential = new ArrayList<>();
+        long sequentialCount = CatchUp.builder().zone(zone).parallelism(1).build()
+                .replay(jobs, job -> policies[job % 3], from, to, (job, time) -> sequential.add(new long[]{time, job}));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<long[]> partitioned = new ArrayList<>();
+            long partitionedCount = CatchUp.builder().zone(zone).executor(executor).parallelism(4).build()
+                    .replay(jobs, job -> policies[job % 3], from, to,
+                            (job, time) -> partitioned.add(new long[]{time, job}));
+
+            assertEquals(sequentialCount, partitionedCount);
+            assertEquals(toStrings(sequential), toStrings(partitioned));
+            assertTrue(sequentialCount > 100_000);
+        } finally {
+            executor.shutdown();
+        }
+
+        long count = CatchUp.builder().zone(zone).parallelism(3).build()
+                .replay(jobs, job -> policies[job % 3], from, to, (job, time) -> { });
+        assertEquals(sequentialCount, count);
+    }
+
+    @Test
+    public void testRejectsMissingPolicies() {
+        List<CronExpression> jobs = catalog(10);
+        CatchUp catchUp = CatchUp.builder().build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> catchUp.replay(jobs, job -> job == 7 ? null : MisfirePolicy.FIRE_ALL, 0, 1, (job, time) -> { }));
+        assertThrows(IllegalArgumentException.class, () -> CatchUp.builder().parallelism(0));
+    }
+
+    private List<CronExpression> catalog(int size) {
+        List<CronExpression> jobs = new ArrayList<>(size);
+        for (int job = 0; job < size; job++) {
+            jobs.add(parser.parse(SCHEDULES[job % SCHEDULES.length] + " /usr/bin/job" + job));
+        }
+        return jobs;
+    }
+
+    private static List<long[]> expected(List<CronExpression> jobs, long from, long to, ZoneId zone) {
+        List<long[]> fires = new ArrayList<>();
+        for (int job = 0; job < jobs.size(); job++) {
+            int id = job;
+            jobs.get(job).fireTimes(from, to, zone).forEach(time -> fires.add(new long[]{time, id}));
+        }
+        fires.sort(Comparator.<long[]>comparingLong(fire -> fire[0]).thenComparingLong(fire -> fire[1]));
+        return fires;
+    }
+
+    private static List<String> toStrings(List<long[]> fires) {
+        List<String> strings = new ArrayList<>(fires.size());
+        for (long[] fire : fires) {
+            strings.add(fire[0] + "/" + fire[1]);
+        }
+        return strings;
+    }
+}
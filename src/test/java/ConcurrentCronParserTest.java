@@ -0,0 +1,91 @@
+import org.example.cornparser.concurrency.BulkParseResult;
+import org.example.cornparser.concurrency.ConcurrentCronParser;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentCronParserTest {
+
+    @Test
+    public void testParseAllKeepsInputOrderAndCollectsFailures() throws Exception {
+        ConcurrentCronParser parser = ConcurrentCronParser.builder().threads(4).chunkSize(7).build();
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inputs.add(i % 10 == 3 ? "99 * * * * /usr/bin/bad" + i : (i % 60) + " * * * * /usr/bin/job" + i);
+        }
+
+        BulkParseResult result = parser.parseAll(inputs).get(10, TimeUnit.SECONDS);
+        parser.shutdown();
+
+        assertEquals(100, result.getExpressions().size());
+        assertEquals(10, result.getFailures().size());
+        for (int i = 0; i < 100; i++) {
+            if (i % 10 == 3) {
+                assertNull(result.getExpressions().get(i));
+            } else {
+                assertEquals("/usr/bin/job" + i, result.getExpressions().get(i).getCommand());
+                assertEquals(List.of(i % 60), result.getExpressions().get(i).getMinutes());
+            }
+        }
+        assertEquals(3, result.getFailures().get(0).getIndex());
+        assertEquals(93, result.getFailures().get(9).getIndex());
+        assertTrue(result.getFailures().get(0).getError() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testCallerSuppliedExecutorIsNotShutDown() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ConcurrentCronParser parser = ConcurrentCronParser.builder()
+                .executor(executor)
+                .parser(new SinglePassCronParser())
+                .build();
+
+        assertEquals(List.of(0), parser.parseCronExpression("0 * * * * /usr/bin/find").get().getMinutes());
+        parser.shutdown();
+
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testCancelStopsPendingChunks() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ConcurrentCronParser parser = ConcurrentCronParser.builder().executor(executor).chunkSize(1).build();
+
+        CompletableFuture<BulkParseResult> result = parser.parseAll(List.of("* * * * * /a", "* * * * * /b"));
+        assertTrue(result.cancel(false));
+        blocked.countDown();
+
+        assertTrue(result.isCancelled());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testEmptyInputCompletesImmediately() throws Exception {
+        ConcurrentCronParser parser = ConcurrentCronParser.builder().poolSizedToCores().build();
+
+        BulkParseResult result = parser.parseAll(List.of()).get();
+        parser.shutdown();
+
+        assertTrue(result.getExpressions().isEmpty());
+        assertFalse(result.hasFailures());
+    }
+}
@@ -0,0 +1,224 @@
+import org.example.cornparser.catalog.CatalogChange;
+import org.example.cornparser.catalog.CronCatalog;
+import org.example.cornparser.io.LineError;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CronCatalogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testReloadParsesOnlyChangedLines() throws IOException {
+        AtomicInteger parses = new AtomicInteger();
+        SinglePassCronParser parser = new SinglePassCronParser();
+        CronCatalog catalog = new CronCatalog(line -> {
+            parses.incrementAndGet();
+            return parser.parse(line);
+        });
+        Path file = directory.resolve("crontab");
+        List<String> lines = new ArrayList<>();
+        for (int job = 0; job < 10_000; job++) {
+            lines.add((job % 60) + " * * * * /usr/bin/job" + job);
+        }
+        Files.write(file, lines);
+
+        CatalogChange initial = catalog.reload(file);
+        assertEquals(10_000, initial.getAdded().size());
+        assertEquals(10_000, catalog.snapshot().size());
+        assertEquals(1, catalog.snapshot().getVersion());
+        CronExpression kept = find(catalog.snapshot(), "/usr/bin/job1");
+
+        parses.set(0);
+        lines.set(5, "H * * * * /usr/bin/job5");
+        lines.remove(7);
+        lines.add("# a comment");
+        lines.add("0 0 * * * /usr/bin/new");
+        Files.write(file, lines);
+        CatalogChange change = catalog.reload(file);
+
+        assertEquals(2, parses.get());
+        assertEquals(List.of("/usr/bin/job5", "/usr/bin/new"), commands(change.getAdded()));
+        assertEquals(List.of("/usr/bin/job5", "/usr/bin/job7"), commands(change.getRemoved()));
+        assertEquals(10_000, catalog.snapshot().size());
+        assertEquals(2, catalog.snapshot().getVersion());
+        assertSame(kept, find(catalog.snapshot(), "/usr/bin/job1"));
+        assertNull(find(catalog.snapshot(), "/usr/bin/job7"));
+    }
+
+    @Test
+    public void testReorderingAndWhitespaceAreNotChanges() throws IOException {
+        CronCatalog catalog = new CronCatalog();
+        Path file = directory.resolve("crontab");
+        Files.write(file, List.of("0 * * * * /usr/bin/a", "5 * * * * /usr/bin/b", "", "# note"));
+        catalog.reload(file);
+        List<CatalogChange> changes = new ArrayList<>();
+        catalog.addListener(changes::add);
+
+        Files.write(file, List.of("  5 * * * * /usr/bin/b\r", "0 * * * * /usr/bin/a   "));
+        CatalogChange change = catalog.reload(file);
+
+        assertFalse(change.hasChanges());
+        assertSame(change.getPrevious(), change.getCurrent());
+        assertEquals(1, catalog.snapshot().getVersion());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testDuplicateLinesAreSeparateJobs() throws IOException {
+        CronCatalog catalog = new CronCatalog();
+        Path file = directory.resolve("crontab");
+        Files.write(file, List.of("0 * * * * /usr/bin/a", "0 * * * * /usr/bin/a", "0 * * * * /usr/bin/a"));
+        assertEquals(3, catalog.reload(file).getAdded().size());
+
+        Files.write(file, List.of("0 * * * * /usr/bin/a"));
+        CatalogChange change = catalog.reload(file);
+        assertEquals(0, change.getAdded().size());
+        assertEquals(2, change.getRemoved().size());
+        assertEquals(1, catalog.snapshot().size());
+    }
+
+    @Test
+    public void testBadLinesAreReportedAndLeftOut() throws IOException {
+        CronCatalog catalog = new CronCatalog();
+        Path file = directory.resolve("crontab");
+        Files.write(file, List.of("0 * * * * /usr/bin/a", "*/0 * * * * /usr/bin/bad"));
+
+        CatalogChange change = catalog.reload(file);
+
+        assertEquals(1, catalog.snapshot().size());
+        assertEquals(1, change.getErrors().size());
+        assertEquals(2, change.getErrors().get(0).getLineNumber());
+        assertEquals("*/0 * * * * /usr/bin/bad", change.getErrors().get(0).getLine());
+    }
+
+    @Test
+    public void testUnchangedBadLinesAreNotParsedAgain() throws IOException {
+        AtomicInteger parses = new AtomicInteger();
+        SinglePassCronParser parser = new SinglePassCronParser();
+        CronCatalog catalog = new CronCatalog(line -> {
+            parses.incrementAndGet();
+            return parser.parse(line);
+        });
+        Path file = directory.resolve("crontab");
+        List<String> lines = new ArrayList<>(List.of("0 * * * * /usr/bin/a", "*/0 * * * * /usr/bin/bad",
+                "*/0 * * * * /usr/bin/bad", "0 25 * * * /usr/bin/worse"));
+        Files.write(file, lines);
+        assertEquals(3, catalog.reload(file).getErrors().size());
+
+        parses.set(0);
+        lines.add(0, "5 * * * * /usr/bin/b");
+        Files.write(file, lines);
+        CatalogChange change = catalog.reload(file);
+
+        assertEquals(1, parses.get());
+        assertTrue(change.getErrors().isEmpty());
+        assertEquals(List.of(3L, 4L, 5L), catalog.getErrors().stream()
+                .map(LineError::getLineNumber).collect(Collectors.toList()));
+        assertEquals("0 25 * * * /usr/bin/worse", catalog.getErrors().get(2).getLine());
+
+        lines.set(4, "0 23 * * * /usr/bin/worse");
+        lines.remove(3);
+        Files.write(file, lines);
+        change = catalog.reload(file);
+
+        assertEquals(1, change.getAdded().size());
+        assertEquals(List.of(3L), catalog.getErrors().stream()
+                .map(LineError::getLineNumber).collect(Collectors.toList()));
+        assertEquals(3, catalog.snapshot().size());
+    }
+
+    @Test
+    public void testRandomEditsKeepSnapshotInLineWithFile() throws IOException {
+        CronCatalog catalog = new CronCatalog();
+        SinglePassCronParser parser = new SinglePassCronParser();
+        Path file = directory.resolve("crontab");
+        Random random = new Random(17);
+        List<String> lines = new ArrayList<>();
+        for (int round = 0; round < 200; round++) {
+            int edits = 1 + random.nextInt(round % 10 == 0 ? 500 : 20);
+            for (int i = 0; i < edits; i++) {
+                String line = random.nextInt(60) + " * * * * /usr/bin/job" + random.nextInt(300);
+                if (lines.isEmpty() || random.nextInt(3) > 0) {
+                    lines.add(random.nextInt(lines.size() + 1), line);
+                } else if (random.nextBoolean()) {
+                    lines.remove(random.nextInt(lines.size()));
+                } else {
+                    lines.set(random.nextInt(lines.size()), line);
+                }
+            }
+            Files.write(file, lines);
+            CatalogChange change = catalog.reload(file);
+
+            List<String> expected = lines.stream().map(line -> parser.parse(line).toString()).sorted()
+                    .collect(Collectors.toList());
+            List<String> actual = catalog.snapshot().getExpressions().stream().map(CronExpression::toString).sorted()
+                    .collect(Collectors.toList());
+            assertEquals(expected, actual, "round " + round);
+            assertEquals(change.getPrevious().size() + change.getAdded().size() - change.getRemoved().size(),
+                    change.getCurrent().size());
+            assertFalse(catalog.reload(file).hasChanges(), "round " + round);
+        }
+    }
+
+    @Test
+    public void testReadersSeeWholeSnapshots() throws Exception {
+        CronCatalog catalog = new CronCatalog();
+        Path small = directory.resolve("small");
+        Path large = directory.resolve("large");
+        List<String> lines = new ArrayList<>();
+        for (int job = 0; job < 2_000; job++) {
+            lines.add("0 * * * * /usr/bin/job" + job);
+        }
+        Files.write(small, lines.subList(0, 500));
+        Files.write(large, lines);
+        catalog.reload(small);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                CronCatalog.Snapshot snapshot = catalog.snapshot();
+                List<CronExpression> expressions = snapshot.getExpressions();
+                if (snapshot.size() != 500 && snapshot.size() != 2_000 || expressions.contains(null)) {
+                    failure.set("Saw a partial snapshot of size " + snapshot.size());
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 100; i++) {
+            catalog.reload(i % 2 == 0 ? large : small);
+        }
+        running.set(false);
+        reader.join();
+        assertNull(failure.get());
+        assertEquals(100, catalog.snapshot().getVersion() - 1);
+    }
+
+    private static CronExpression find(CronCatalog.Snapshot snapshot, String command) {
+        return snapshot.getExpressions().stream().filter(e -> e.getCommand().equals(command)).findFirst()
+                .orElse(null);
+    }
+
+    private static List<String> commands(List<CronExpression> expressions) {
+        List<String> commands = expressions.stream().map(CronExpression::getCommand).collect(Collectors.toList());
+        Collections.sort(commands);
+        return commands;
+    }
+}
@@ -0,0 +1,136 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CronExecutionTimeTest {
+    private static final ZoneId UTC = ZoneOffset.UTC;
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testNextExecutionSkipsToMatchingFields() {
+        CronExpression expression = parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+        Instant from = Instant.parse("2024-03-01T00:50:00Z");  // Friday the 1st
+
+        assertEquals(Instant.parse("2024-03-04T00:00:00Z"), expression.nextExecution(from, UTC));  // Monday
+        assertEquals(Instant.parse("2024-03-01T00:45:00Z"), expression.previousExecution(from, UTC));
+    }
+
+    @Test
+    public void testDayOfMonthOnlyWhenDayOfWeekIsWildcard() {
+        CronExpression expression = parser.parse("0 12 29 2 * /usr/bin/leap");
+
+        assertEquals(Instant.parse("2028-02-29T12:00:00Z"),
+                expression.nextExecution(Instant.parse("2024-03-01T00:00:00Z"), UTC));
+        assertEquals(Instant.parse("2024-02-29T12:00:00Z"),
+                expression.previousExecution(Instant.parse("2028-02-29T12:00:00Z"), UTC));
+    }
+
+    @Test
+    public void testNeverFiringExpressionReturnsNull() {
+        CronExpression expression = parser.parse("0 0 31 2 * /usr/bin/never");
+
+        assertNull(expression.nextExecution(Instant.EPOCH, UTC));
+        assertNull(expression.previousExecution(Instant.EPOCH, UTC));
+    }
+
+    @Test
+    public void testMillisecondVariantIsStrict() {
+        CronExpression expression = parser.parse("* * * * * /usr/bin/tick");
+        long minute = Instant.parse("2024-06-01T10:00:00Z").toEpochMilli();
+
+        assertEquals(minute + 60_000, expression.nextExecution(minute, UTC));
+        assertEquals(minute, expression.nextExecution(minute - 1, UTC));
+        assertEquals(minute - 60_000, expression.previousExecution(minute, UTC));
+        assertEquals(minute, expression.previousExecution(minute + 1, UTC));
+    }
+
+    @Test
+    public void testGapFiresOnceWhenGapEnds() {
+        CronExpression expression = parser.parse("30 2 * * * /usr/bin/nightly");
+
+        // 2024-03-10 02:30 does not exist in New York, clocks jump from 02:00 to 03:00.
+        assertEquals(ZonedDateTime.of(2024, 3, 10, 3, 0, 0, 0, NEW_YORK).toInstant(),
+                expression.nextExecution(Instant.parse("2024-03-10T00:00:00Z"), NEW_YORK));
+    }
+
+    @Test
+    public void testOverlapFiresOnlyOnFirstOccurrence() {
+        CronExpression expression = parser.parse("30 1 * * * /usr/bin/nightly");
+        Instant first = ZonedDateTime.ofStrict(LocalDateTime.of(2024, 11, 3, 1, 30), ZoneOffset.ofHours(-4), NEW_YORK)
+                .toInstant();
+
+        assertEquals(first, expression.nextExecution(Instant.parse("2024-11-03T00:00:00Z"), NEW_YORK));
+        assertEquals(ZonedDateTime.of(2024, 11, 4, 1, 30, 0, 0, NEW_YORK).toInstant(),
+                expression.nextExecution(first, NEW_YORK));
+        assertEquals(first, expression.previousExecution(Instant.parse("2024-11-04T00:00:00Z"), NEW_YORK));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"* * * * *", "*/7 1-3 * * *", "0 2 * * *", "45 1 * * 0", "15 * 1,15 * 2", "5 */2 * * 6"})
+    public void testMatchesBruteForceAcrossDstTransitions(String schedule) {
+        CronExpression expression = parser.parse(schedule + " /usr/bin/job");
+
+        for (String day : new String[]{"2024-03-08T00:00:00Z", "2024-11-01T00:00:00Z"}) {
+            Instant start = Instant.parse(day);
+            Instant end = start.plusSeconds(4 * 86_400);
+            TreeSet<Instant> expected = bruteForce(expression, start, end, NEW_YORK);
+
+            for (Instant from = start; from.isBefore(end); from = from.plusSeconds(600)) {
+                assertEquals(expected.higher(from), expression.nextExecution(from, NEW_YORK), "next after " + from);
+                assertEquals(expected.lower(from), expression.previousExecution(from, NEW_YORK),
+                        "previous before " + from);
+            }
+        }
+    }
+
+    /**
+     * Expands every local minute in the window and resolves it the way the engine documents:
+     * gap times fire when the gap ends, overlap times fire on their first occurrence.
+     */
+    private static TreeSet<Instant> bruteForce(CronExpression expression, Instant start, Instant end, ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        TreeSet<Instant> fires = new TreeSet<>();
+        LocalDateTime local = LocalDateTime.ofInstant(start, zone).minusDays(10);
+        LocalDateTime last = LocalDateTime.ofInstant(end, zone).plusDays(10);
+        for (; local.isBefore(last); local = local.plusMinutes(1)) {
+            if (!expression.getMinutes().contains(local.getMinute())
+                    || !expression.getHours().contains(local.getHour())
+                    || !expression.getMonths().contains(local.getMonthValue())
+                    || !dayMatches(expression, local)) {
+                continue;
+            }
+            ZoneOffsetTransition transition = rules.getTransition(local);
+            if (transition == null) {
+                fires.add(local.atZone(zone).toInstant());
+            } else if (transition.isGap()) {
+                fires.add(transition.getInstant());
+            } else {
+                fires.add(local.toInstant(transition.getOffsetBefore()));
+            }
+        }
+        return fires;
+    }
+
+    private static boolean dayMatches(CronExpression expression, LocalDateTime local) {
+        boolean dayOfMonth = expression.getDaysOfMonth().contains(local.getDayOfMonth());
+        boolean dayOfWeek = expression.getDaysOfWeek().contains(local.getDayOfWeek().getValue() % 7);
+        boolean dayOfMonthWildcard = expression.getDaysOfMonth().size() == 31;
+        boolean dayOfWeekWildcard = expression.getDaysOfWeek().size() == 7;
+        return dayOfMonthWildcard || dayOfWeekWildcard ? dayOfMonth && dayOfWeek : dayOfMonth || dayOfWeek;
+    }
+}
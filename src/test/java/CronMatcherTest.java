@@ -0,0 +1,100 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.time.CronMatcher;
+import org.example.cornparser.time.ExecutionTimeCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CronMatcherTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId LORD_HOWE = ZoneId.of("Australia/Lord_Howe");  // 30-minute DST shift
+
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testMatchesLocalFields() {
+        CronMatcher matcher = CronMatcher.of(parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find"), NEW_YORK);
+
+        assertTrue(matcher.matches(Instant.parse("2024-03-01T05:15:59.999Z").toEpochMilli()));  // Friday 1st, 00:15
+        assertTrue(matcher.matches(Instant.parse("2024-03-05T05:30:00Z").toEpochMilli()));      // Tuesday
+        assertTrue(matcher.matches(Instant.parse("2024-06-15T04:45:00Z").toEpochMilli()));      // Saturday 15th, EDT
+        assertFalse(matcher.matches(Instant.parse("2024-03-01T05:16:00Z").toEpochMilli()));
+        assertFalse(matcher.matches(Instant.parse("2024-03-02T05:00:00Z").toEpochMilli()));     // Saturday 2nd
+        assertFalse(matcher.matches(Instant.parse("2024-03-01T00:15:00Z").toEpochMilli()));     // 19:15 the day before
+    }
+
+    @Test
+    public void testDstGapAndOverlapAgreeWithExecutionTimes() {
+        CronMatcher skipped = CronMatcher.of(parser.parse("30 2 * * * /usr/bin/skipped"), NEW_YORK);
+        CronMatcher repeated = CronMatcher.of(parser.parse("30 1 * * * /usr/bin/repeated"), NEW_YORK);
+
+        assertTrue(skipped.matches(Instant.parse("2024-03-10T07:00:30Z").toEpochMilli()));   // 03:00 EDT, gap end
+        assertFalse(skipped.matches(Instant.parse("2024-03-10T07:30:00Z").toEpochMilli()));  // 03:30 EDT
+        assertTrue(repeated.matches(Instant.parse("2024-11-03T05:30:00Z").toEpochMilli()));  // First 01:30
+        assertFalse(repeated.matches(Instant.parse("2024-11-03T06:30:00Z").toEpochMilli())); // Second 01:30
+    }
+
+    @Test
+    public void testAgreesWithNextExecutionOnRandomInstants() {
+        String[] schedules = {
+                "* * * * *", "*/7 * * * *", "0,30 1-3 * * *", "15 2 * * *", "45 1 * 3,10,11 0",
+                "*/20 0-5 1,15 * 1-5", "0 0 29 2 *", "5 3 * 4 6", "59 23 31 * *", "0 12 * 1-6 *",
+        };
+        ZoneId[] zones = {ZoneOffset.UTC, NEW_YORK, LORD_HOWE, ZoneId.of("Europe/London")};
+        Random random = new Random(7);
+        long start = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+        for (String line : schedules) {
+            CronSchedule schedule = parser.parse(line + " /usr/bin/job").getSchedule();
+            for (ZoneId zone : zones) {
+                CronMatcher matcher = CronMatcher.of(schedule, zone);
+                long fireTime = schedule.nextExecution(start, zone);
+                for (int i = 0; i < 500; i++) {
+                    // Probe around real fire times as well as at random instants
+                    long instant = i % 2 == 0
+                            ? fireTime + random.nextInt(120_000) - 60_000
+                            : start + (long) (random.nextDouble() * 2 * 365 * 86_400_000L);
+                    long previous = schedule.nextExecution(instant - 60_000, zone);
+                    boolean expected = previous != ExecutionTimeCalculator.NO_EXECUTION && previous <= instant;
+                    assertEquals(expected, matcher.matches(instant), () -> line + " in " + zone + " at "
+                            + Instant.ofEpochMilli(instant));
+                    fireTime = schedule.nextExecution(fireTime, zone);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSharedAcrossThreadsWithoutAllocating() {
+        CronExpression expression = parser.parse("*/5 9-17 * * 1-5 /usr/bin/office");
+        CronMatcher matcher = CronMatcher.of(expression, NEW_YORK);
+        long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        long minutes = 366 * 24 * 60;
+
+        long parallel = IntStream.range(0, (int) minutes).parallel()
+                .filter(minute -> matcher.matches(start + minute * 60_000L))
+                .count();
+        assertEquals(expression.countFirings(start, start + minutes * 60_000L, NEW_YORK), parallel);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long warm = Instant.parse("2024-05-06T13:00:00Z").toEpochMilli();
+        matcher.matches(warm);
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        int matched = 0;
+        for (int i = 0; i < 100_000; i++) {
+            matched += matcher.matches(warm + i * 1_000L) ? 1 : 0;
+        }
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        assertTrue(matched > 0);
+        assertTrue(allocated < 1_024, () -> "Allocated " + allocated + " bytes");
+    }
+}
@@ -21,6 +21,44 @@ public class CronParserTest {
         assertEquals("/usr/bin/find", expression.getCommand());
     }
 
+    @Test
+    public void testParseIntoBitmasks() {
+        CronExpression expression = parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+
+        assertEquals((1L << 0) | (1L << 15) | (1L << 30) | (1L << 45), expression.getMinuteBits());
+        assertEquals(1, expression.getHourBits());
+        assertEquals((1 << 1) | (1 << 15), expression.getDayOfMonthBits());
+        assertEquals(0x1FFE, expression.getMonthBits());
+        assertEquals(0b111110, expression.getDayOfWeekBits());
+        assertTrue(expression.getMinutes().contains(30));
+        assertFalse(expression.getMinutes().contains(31));
+    }
+
+    @Test
+    public void testListConstructorMatchesBitmaskConstructor() {
+        CronExpression fromLists = new CronExpression(List.of(5, 0), List.of(1), List.of(31), List.of(12), List.of(0, 6), "cmd");
+        CronExpression fromBits = new CronExpression(0b100001L, 0b10, 1 << 31, 1 << 12, (byte) 0b1000001, "cmd");
+
+        assertEquals(fromBits, fromLists);
+        assertEquals(List.of(0, 5), fromLists.getMinutes());
+        assertEquals(List.of(31), fromLists.getDaysOfMonth());
+    }
+
+    @Test
+    public void testListConstructorRejectsValuesOutsideTheirField() {
+        List<Integer> any = List.of(1);
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(List.of(60), any, any, any, any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, List.of(24), any, any, any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, List.of(40), any, any, any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, List.of(0), any, any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, List.of(32), any, any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, any, List.of(13), any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, any, List.of(63), any, "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, any, any, List.of(7), "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, any, any, List.of(9), "cmd"));
+        assertThrows(IllegalArgumentException.class, () -> new CronExpression(any, any, any, any, List.of(-1), "cmd"));
+    }
+
     @Test
     public void testInvalidCronExpression() {
        assertThrows(IllegalArgumentException.class, () -> {
@@ -0,0 +1,168 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.scheduler.CronScheduler;
+import org.example.cornparser.scheduler.ScheduledCronJob;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CronSchedulerTest {
+    private static final long MINUTE = 60_000;
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testFiresAtEachScheduledMinute() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-01T00:00:30Z").toEpochMilli(), ZoneOffset.UTC);
+        CronScheduler scheduler = CronScheduler.builder().clock(clock).executor(Runnable::run).build();
+        List<Long> fired = new ArrayList<>();
+        scheduler.schedule(parser.parse("*/15 9-10 * * * /usr/bin/job"), () -> fired.add(clock.millis()));
+
+        int total = 0;
+        for (int i = 0; i < 24 * 60; i++) {
+            clock.millis += MINUTE;
+            total += scheduler.advance();
+        }
+
+        assertEquals(8, total);
+        long nine = Instant.parse("2024-03-01T09:00:00Z").toEpochMilli();
+        for (int i = 0; i < 8; i++) {
+            // The clock moves in whole minutes from :30, so each firing is observed 30 seconds after its deadline.
+            assertEquals(nine + i * 15 * MINUTE + 30_000, fired.get(i));
+        }
+    }
+
+    @Test
+    public void testManyJobsMatchNextExecution() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        long start = Instant.parse("2024-03-09T00:00:00Z").toEpochMilli();  // Spans the spring-forward gap
+        MutableClock clock = new MutableClock(start, newYork);
+        CronScheduler scheduler = CronScheduler.builder().clock(clock).executor(Runnable::run).tickMillis(1).build();
+
+        Random random = new Random(7);
+        int jobs = 2_000;
+        int[] counts = new int[jobs];
+        int[] expected = new int[jobs];
+        long end = start + 3 * 24 * 60 * MINUTE;
+        for (int i = 0; i < jobs; i++) {
+            String line = random.nextInt(60) + "/" + (1 + random.nextInt(30)) + " " + random.nextInt(24) + "/"
+                    + (1 + random.nextInt(6)) + " * * * /usr/bin/job" + i;
+            CronExpression expression = parser.parse(line);
+            int index = i;
+            scheduler.schedule(expression, () -> counts[index]++);
+            for (long t = expression.nextExecution(start, newYork); t <= end; t = expression.nextExecution(t, newYork)) {
+                expected[i]++;
+            }
+        }
+
+        while (clock.millis < end) {
+            clock.millis = Math.min(end, clock.millis + 7 * MINUTE + 1_234);
+            scheduler.advance();
+        }
+
+        assertArrayEquals(expected, counts);
+        assertEquals(jobs, scheduler.getJobCount());
+    }
+
+    @Test
+    public void testFarDeadlinesCascadeThroughOverflow() {
+        long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        MutableClock clock = new MutableClock(start, ZoneOffset.UTC);
+        CronScheduler scheduler = CronScheduler.builder().clock(clock).executor(Runnable::run).tickMillis(1).build();
+        // With 1 ms ticks the wheel spans about 49 days, so the leap-day job starts in the overflow list.
+        ScheduledCronJob job = scheduler.schedule(parser.parse("30 12 29 2 * /usr/bin/leap"), () -> { });
+        assertEquals(Instant.parse("2024-02-29T12:30:00Z").toEpochMilli(), job.getNextFireTime());
+
+        clock.millis = Instant.parse("2024-02-29T12:29:59.999Z").toEpochMilli();
+        assertEquals(0, scheduler.advance());
+        clock.millis++;
+        assertEquals(1, scheduler.advance());
+        assertEquals(Instant.parse("2028-02-29T12:30:00Z").toEpochMilli(), job.getNextFireTime());
+
+        // Catching up after a long pause fires every missed occurrence in order.
+        clock.millis = Instant.parse("2036-03-01T00:00:00Z").toEpochMilli();
+        assertEquals(3, scheduler.advance());
+        assertEquals(Instant.parse("2040-02-29T12:30:00Z").toEpochMilli(), job.getNextFireTime());
+    }
+
+    @Test
+    public void testCancelStopsFutureFirings() {
+        MutableClock clock = new MutableClock(0, ZoneOffset.UTC);
+        CronScheduler scheduler = CronScheduler.builder().clock(clock).executor(Runnable::run).build();
+        int[] count = new int[2];
+        ScheduledCronJob first = scheduler.schedule(parser.parse("* * * * * /usr/bin/a"), () -> count[0]++);
+        ScheduledCronJob second = scheduler.schedule(parser.parse("* * * * * /usr/bin/b"), () -> count[1]++);
+        first.cancel();  // Before it ever reached the wheel
+        clock.millis = 5 * MINUTE;
+        assertEquals(5, scheduler.advance());
+
+        second.cancel();
+        clock.millis = 10 * MINUTE;
+        assertEquals(0, scheduler.advance());
+        assertArrayEquals(new int[]{0, 5}, count);
+        assertTrue(second.isCancelled());
+        assertFalse(second.isActive());
+        assertEquals(0, scheduler.getJobCount());
+
+        assertFalse(scheduler.schedule(parser.parse("0 0 31 2 * /usr/bin/never"), () -> fail()).isActive());
+    }
+
+    @Test
+    public void testBackgroundThreadFiresOnExecutor() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long now = System.currentTimeMillis();
+        // Pretend the next minute boundary is moments away.
+        Clock clock = Clock.offset(Clock.systemUTC(), Duration.ofMillis(MINUTE - Math.floorMod(now, MINUTE) - 200));
+        CronScheduler scheduler = CronScheduler.builder().clock(clock).tickMillis(10).build();
+        scheduler.schedule(parser.parse("* * * * * /usr/bin/job"), latch::countDown);
+        scheduler.start();
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    /**
+     * Clock whose time only moves when the test says so.
+     */
+    private static final class MutableClock extends Clock {
+        private long millis;
+        private final ZoneId zone;
+
+        private MutableClock(long millis, ZoneId zone) {
+            this.millis = millis;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(millis, zone);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
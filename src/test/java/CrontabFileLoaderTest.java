@@ -0,0 +1,78 @@
+import org.example.cornparser.io.CrontabFileLoader;
+import org.example.cornparser.io.LineError;
+import org.example.cornparser.io.LoadSummary;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrontabFileLoaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testLoadsInFileOrderWithLineNumbers() throws Exception {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            if (i % 50 == 0) {
+                content.append("# comment ").append(i).append('\n');
+            } else if (i % 70 == 0) {
+                content.append("   \r\n");
+            } else if (i % 90 == 0) {
+                content.append("99 * * * * /usr/bin/bad").append(i).append('\n');
+            } else {
+                String line = (i % 60) + " * * * * /usr/bin/job" + i;
+                content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+                expected.add(i + ":" + line);
+            }
+        }
+        content.append("0 0 * * * /usr/bin/日本");  // Last line has no newline and is not ASCII
+        expected.add("501:0 0 * * * /usr/bin/日本");
+        Path file = Files.write(directory.resolve("crontab"), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        List<String> loaded = new ArrayList<>();
+        List<LineError> errors = new ArrayList<>();
+        DefaultCronParser reference = new DefaultCronParser();
+        LoadSummary summary = new CrontabFileLoader(executor, 64).load(file, (expression, line) -> {
+            String text = expected.get(loaded.size());
+            assertEquals(reference.parse(text.substring(text.indexOf(':') + 1)), expression);
+            loaded.add(line + ":" + text.substring(text.indexOf(':') + 1));
+        }, errors::add);
+        executor.shutdown();
+
+        assertEquals(expected, loaded);
+        assertEquals(List.of(90L, 180L, 270L, 360L),
+                errors.stream().map(LineError::getLineNumber).collect(Collectors.toList()));
+        assertEquals("99 * * * * /usr/bin/bad90", errors.get(0).getLine());
+        assertEquals(501, summary.getLines());
+        assertEquals(expected.size(), summary.getExpressions());
+        assertEquals(4, summary.getErrors());
+    }
+
+    @Test
+    public void testLinesLongerThanChunkAndEmptyFile() throws Exception {
+        String line = "*/5 * * * * /usr/bin/" + "x".repeat(200);
+        Path file = Files.write(directory.resolve("long"), (line + "\n" + line + "\n").getBytes(StandardCharsets.UTF_8));
+        List<Long> lines = new ArrayList<>();
+
+        LoadSummary summary = new CrontabFileLoader(Executors.newSingleThreadExecutor(), 16)
+                .load(file, (expression, number) -> lines.add(number), error -> fail(error.getMessage()));
+
+        assertEquals(List.of(1L, 2L), lines);
+        assertEquals(2, summary.getLines());
+        assertEquals(0, new CrontabFileLoader().load(Files.createFile(directory.resolve("empty")),
+                (expression, number) -> fail(), error -> fail()).getLines());
+    }
+}
@@ -0,0 +1,106 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.model.CronSchedule;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FireTimesTest {
+    private static final ZoneId UTC = ZoneOffset.UTC;
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId LORD_HOWE = ZoneId.of("Australia/Lord_Howe");  // 30-minute DST shift
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testCountEveryMinuteOfAYear() {
+        CronSchedule everyMinute = parser.parse("* * * * * /usr/bin/tick").getSchedule();
+
+        assertEquals(527_040, everyMinute.countFirings(
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"), UTC));
+        assertEquals(525_600, everyMinute.countFirings(
+                Instant.parse("2023-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"), UTC));
+        // The skipped spring-forward hour fires once and the repeated fall-back hour is not fired twice.
+        assertEquals(525_600 - 60, everyMinute.countFirings(
+                Instant.parse("2023-01-01T05:00:00Z"), Instant.parse("2024-01-01T05:00:00Z"), NEW_YORK));
+    }
+
+    @Test
+    public void testCountMatchesEnumeratedFireTimesAcrossTransitions() {
+        String[] schedules = {
+                "* * * * *", "*/7 * * * *", "0,30 1-3 * * *", "15 2 * * *", "45 1 * 3,10,11 0",
+                "*/20 0-5 1,15 * 1-5", "0 0 29 2 *", "5 3 * 4 6", "59 23 31 * *", "0 12 * 1-6 *",
+        };
+        ZoneId[] zones = {UTC, NEW_YORK, LORD_HOWE, LONDON};
+        Random random = new Random(42);
+        long start = Instant.parse("2023-01-01T00:00:00Z").getEpochSecond();
+        for (int i = 0; i < 200; i++) {
+            CronSchedule schedule = parser.parse(schedules[i % schedules.length] + " /usr/bin/job").getSchedule();
+            ZoneId zone = zones[random.nextInt(zones.length)];
+            long fromMilli = (start + random.nextInt(2 * 365 * 86_400)) * 1000L + random.nextInt(1000);
+            long toMilli = fromMilli + random.nextInt(60 * 86_400) * 1000L + random.nextInt(1000);
+
+            assertEquals(schedule.fireTimes(fromMilli, toMilli, zone).count(),
+                    schedule.countFirings(fromMilli, toMilli, zone), () -> schedule + " in " + zone);
+        }
+    }
+
+    @Test
+    public void testCountInsideDstTransitions() {
+        CronSchedule everyMinute = parser.parse("* * * * * /usr/bin/tick").getSchedule();
+        Instant gapEnd = Instant.parse("2024-03-10T07:00:00Z");       // 03:00 EDT, 02:00-02:59 skipped
+        Instant overlapStart = Instant.parse("2024-11-03T06:00:00Z"); // 01:00 EST, second 01:00-01:59
+
+        assertEquals(1, everyMinute.countFirings(gapEnd, gapEnd.plusSeconds(1), NEW_YORK));
+        assertEquals(0, everyMinute.countFirings(overlapStart, overlapStart.plusSeconds(3_600), NEW_YORK));
+        assertEquals(1, everyMinute.countFirings(overlapStart, overlapStart.plusSeconds(3_601), NEW_YORK));
+        assertEquals(0, everyMinute.countFirings(gapEnd, gapEnd, NEW_YORK));
+        assertEquals(0, everyMinute.countFirings(gapEnd.plusSeconds(60), gapEnd, NEW_YORK));
+    }
+
+    @Test
+    public void testCountOverCenturiesUsesWholeCycles() {
+        CronSchedule leapDays = parser.parse("0 0 29 2 * /usr/bin/leap").getSchedule();
+        CronSchedule mondays = parser.parse("30 9 * * 1 /usr/bin/monday").getSchedule();
+        Instant from = Instant.parse("2000-01-01T00:00:00Z");
+        Instant to = Instant.parse("3000-01-01T00:00:00Z");
+
+        long daysFromFirstMonday = ChronoUnit.DAYS.between(Instant.parse("2000-01-03T09:30:00Z"), to);
+
+        assertEquals(243, leapDays.countFirings(from, to, UTC));  // 250 multiples of 4, minus 7 skipped centuries
+        assertEquals(daysFromFirstMonday / 7 + 1, mondays.countFirings(from, to, UTC));
+        assertEquals(0, parser.parse("0 0 31 2 * /usr/bin/never").getSchedule().countFirings(from, to, UTC));
+    }
+
+    @Test
+    public void testFireTimesAreLazyAndOrdered() {
+        CronExpression expression = parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+        Instant from = Instant.parse("2024-03-01T00:30:00Z");
+        AtomicInteger produced = new AtomicInteger();
+
+        List<Instant> firstFour = expression.fireTimes(from, Instant.MAX, UTC)
+                .peek(instant -> produced.incrementAndGet())
+                .limit(4)
+                .collect(Collectors.toList());
+        assertEquals(List.of(Instant.parse("2024-03-01T00:30:00Z"), Instant.parse("2024-03-01T00:45:00Z"),
+                Instant.parse("2024-03-04T00:00:00Z"), Instant.parse("2024-03-04T00:15:00Z")), firstFour);
+        assertEquals(4, produced.get());
+
+        long fromMilli = from.toEpochMilli() + 1;  // Start is inclusive, rounded up to the next second
+        assertEquals(Instant.parse("2024-03-01T00:45:00Z").toEpochMilli(),
+                expression.fireTimes(fromMilli, Long.MAX_VALUE, UTC).findFirst().getAsLong());
+        assertEquals(0, expression.fireTimes(fromMilli, fromMilli, UTC).count());
+        assertEquals(expression.countFirings(from, from.plusSeconds(86_400 * 31), UTC),
+                expression.fireTimes(from, from.plusSeconds(86_400 * 31), UTC).count());
+    }
+}
@@ -0,0 +1,179 @@
+import org.example.cornparser.index.FiringHistogram;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.CachingCronParser;
+import org.example.cornparser.parser.CronFieldParser;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashSpreadTest {
+    private final DefaultCronParser parser = new DefaultCronParser();
+    private final SinglePassCronParser singlePass = new SinglePassCronParser();
+
+    @Test
+    public void testHashedFieldsResolveWithinTheirRanges() {
+        for (int job = 0; job < 500; job++) {
+            String command = "/usr/bin/job" + job;
+            CronExpression expression = parser.parse("H H(9-17) H(1-28)/7 * H(1-5) " + command);
+
+            assertEquals(1, expression.getMinutes().size());
+            int hour = expression.getHours().get(0);
+            assertTrue(hour >= 9 && hour <= 17, "hour " + hour);
+            List<Integer> days = expression.getDaysOfMonth();
+            assertTrue(days.size() == 4 && days.get(0) <= 7 && days.get(3) == days.get(0) + 21, "days " + days);
+            int dayOfWeek = expression.getDaysOfWeek().get(0);
+            assertTrue(dayOfWeek >= 1 && dayOfWeek <= 5, "day of week " + dayOfWeek);
+
+            List<Integer> quarters = parser.parse("H/15 * * * * " + command).getMinutes();
+            assertEquals(4, quarters.size());
+            assertTrue(quarters.get(0) < 15 && quarters.get(1) == quarters.get(0) + 15);
+        }
+    }
+
+    @Test
+    public void testHashedDaysOfMonthRunInEveryMonth() {
+        int[] jobsPerDay = new int[32];
+        for (int job = 0; job < 1_000; job++) {
+            String command = " /usr/bin/job" + job;
+            for (String field : new String[]{"H", "H/7", "H/10", "H/30"}) {
+                CronExpression expression = parser.parse("0 0 " + field + " * *" + command);
+                assertEquals(expression, singlePass.parse("0 0 " + field + " * *" + command));
+                int last = expression.getDaysOfMonth().get(expression.getDaysOfMonth().size() - 1);
+                assertTrue(last <= 28, field + " gave day " + last);
+            }
+            jobsPerDay[parser.parse("0 0 H * *" + command).getDaysOfMonth().get(0)]++;
+        }
+        for (int day = 1; day <= 28; day++) {
+            assertTrue(jobsPerDay[day] > 0, "day " + day);
+        }
+        int explicit = parser.parse("0 0 H(29-31) * * cmd").getDaysOfMonth().get(0);
+        assertTrue(explicit >= 29, "an explicit range may still reach the end of the month");
+    }
+
+    @Test
+    public void testHashIsStableAndFollowsTheKey() {
+        CronExpression first = parser.parse("H H * * * /usr/bin/backup");
+
+        assertEquals(first, parser.parse("H H * * * /usr/bin/backup"));
+        assertEquals(first, singlePass.parse("H H * * * /usr/bin/backup"));
+        assertEquals(first, new CachingCronParser().parse("H H * * * /usr/bin/backup"));
+        assertEquals(parser.parse("H H * * * /usr/bin/backup", "tenant-42"),
+                singlePass.parse("H H * * * /usr/bin/backup", "tenant-42"));
+        assertEquals(parser.parseSchedule("H H * * *", "/usr/bin/backup"), first.getSchedule());
+        assertEquals(0xAF63DC4C8601EC8CL, CronFieldParser.hash("a"));  // FNV-1a, stable across processes
+        assertEquals(0xB456BCFC34C2CB2CL, CronFieldParser.mix(1L));  // Murmur3 finalizer behind keys and fingerprints
+
+        int different = 0;
+        for (int tenant = 0; tenant < 100; tenant++) {
+            CronExpression keyed = parser.parse("H H * * * /usr/bin/backup", "tenant-" + tenant);
+            different += keyed.getSchedule().equals(first.getSchedule()) ? 0 : 1;
+        }
+        assertTrue(different > 90);
+        assertThrows(IllegalArgumentException.class, () -> parser.parseSchedule("H * * * *"));
+    }
+
+    @Test
+    public void testCachingParserDoesNotShareHashedSchedulesBetweenCommands() {
+        CachingCronParser caching = new CachingCronParser();
+        for (int job = 0; job < 50; job++) {
+            String line = "H * * * * /usr/bin/job" + job;
+            assertEquals(parser.parse(line), caching.parse(line));
+        }
+        assertEquals(0, caching.getCachedScheduleCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "H * * * * cmd", "H/15 * * * * cmd", "H(0-29) * * * * cmd", "H(0-29)/10 * * * * cmd",
+            "0 H(+9-+17) * * * cmd", "0 0 * * H(0-7) cmd", "0 0 * * H/7 cmd", "0 0 H(0-5) * * cmd",
+            "H/ * * * * cmd", "H// * * * * cmd", "H/15/ * * * * cmd", "H(1-5 * * * * cmd", "H(1-5)) * * * * cmd",
+            "H() * * * * cmd", "H(5) * * * * cmd", "H(5-1) * * * * cmd", "H(1-5-) * * * * cmd",
+            "H(1--5) * * * * cmd", "H(-5) * * * * cmd", "H(0-60) * * * * cmd", "H/0 * * * * cmd",
+            "H/60 * * * * cmd", "HH * * * * cmd", "H5 * * * * cmd", "H,5 * * * * cmd", "5,H * * * * cmd",
+            "*/H * * * * cmd", "H-5 * * * * cmd", "H(1-5)/ * * * * cmd", "h * * * * cmd", "H * * * *",
+            "H(99999999999-5) * * * * cmd", "H(1-5)x * * * * cmd",
+    })
+    public void testSinglePassAcceptsExactlyWhatDefaultParserAccepts(String input) {
+        assertSameOutcome(input);
+    }
+
+    @Test
+    public void testRandomHashedFieldsMatchDefaultParser() {
+        String alphabet = "0123456789H()/-,+*";
+        Random random = new Random(15);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder fields = new StringBuilder();
+            for (int field = 0; field < 5; field++) {
+                fields.append(random.nextBoolean() ? "H" : "");
+                int length = random.nextInt(7);
+                for (int c = 0; c < length; c++) {
+                    fields.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                fields.append(fields.length() == 0 || fields.charAt(fields.length() - 1) == ' ' ? "*" : "").append(' ');
+            }
+            assertSameOutcome(fields.append("/usr/bin/job").append(i).toString());
+        }
+    }
+
+    @Test
+    public void testHistogramShowsTheTopOfTheHourSpikeAndItsSpread() {
+        List<CronExpression> herd = new ArrayList<>();
+        List<CronExpression> spread = new ArrayList<>();
+        for (int job = 0; job < 6_000; job++) {
+            herd.add(parser.parse("0 * * * * /usr/bin/job" + job));
+            spread.add(parser.parse("H * * * * /usr/bin/job" + job));
+        }
+
+        FiringHistogram before = FiringHistogram.of(herd);
+        assertEquals(6_000 * 24, before.getTotal());
+        assertEquals(6_000, before.getPeak());
+        assertEquals(60.0, before.getPeakToMeanRatio(), 1e-9);
+        assertEquals(6_000 * 24, before.getMinuteOfHourCounts()[0]);
+
+        FiringHistogram after = FiringHistogram.of(spread);
+        assertEquals(before.getTotal(), after.getTotal());
+        assertTrue(after.getPeakToMeanRatio() < 1.5, after::toString);
+        for (long minute : after.getMinuteOfHourCounts()) {
+            assertTrue(minute > 0);
+        }
+    }
+
+    @Test
+    public void testHistogramOfADateAppliesDayFields() {
+        List<CronExpression> catalog = List.of(
+                parser.parse("0 9 * * 1-5 /usr/bin/weekdays"),
+                parser.parse("0 9 1 * * /usr/bin/first-of-month"),
+                parser.parse("0 9 1 * 0 /usr/bin/first-or-sunday"),
+                parser.parse("30 9 * 2 * /usr/bin/february"));
+
+        FiringHistogram monday = FiringHistogram.of(catalog, LocalDate.of(2024, 7, 1));  // Monday the 1st
+        assertEquals(3, monday.getCount(9, 0));
+        assertEquals(0, monday.getCount(9, 30));
+        assertEquals(9 * 60, monday.getPeakMinuteOfDay());
+
+        FiringHistogram sunday = FiringHistogram.of(catalog, LocalDate.of(2024, 2, 4));  // Sunday the 4th
+        assertEquals(1, sunday.getCount(9, 0));
+        assertEquals(1, sunday.getCount(9, 30));
+        assertEquals(0, FiringHistogram.of(List.of()).getPeakToMeanRatio());
+    }
+
+    private void assertSameOutcome(String input) {
+        CronExpression expected;
+        try {
+            expected = parser.parse(input);
+        } catch (IllegalArgumentException e) {
+            assertThrows(IllegalArgumentException.class, () -> singlePass.parse(input), "should reject: " + input);
+            return;
+        }
+        assertEquals(expected, singlePass.parse(input), "should accept: " + input);
+    }
+}
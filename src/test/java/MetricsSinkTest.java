@@ -0,0 +1,88 @@
+import org.example.cornparser.concurrency.BulkParseResult;
+import org.example.cornparser.concurrency.ConcurrentCronParser;
+import org.example.cornparser.metrics.InMemoryMetricsSink;
+import org.example.cornparser.metrics.LatencyHistogram;
+import org.example.cornparser.metrics.MetricsSink;
+import org.example.cornparser.parser.CronParser;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsSinkTest {
+
+    @Test
+    public void testHistogramPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);  // Counted as 0
+
+        assertEquals(100_001, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000, histogram.getMean(), 1.0);
+        assertEquals(50_000, histogram.getValueAtPercentile(50), 50_000 / 32.0);
+        assertEquals(99_000, histogram.getValueAtPercentile(99), 99_000 / 32.0);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    public void testParsersReportLatencyFieldCostAndFailures() {
+        for (boolean singlePass : new boolean[]{false, true}) {
+            InMemoryMetricsSink metrics = new InMemoryMetricsSink();
+            CronParser parser = singlePass ? new SinglePassCronParser(metrics) : new DefaultCronParser(metrics);
+            parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+            parser.parse("0 12 * * * /usr/bin/noon");
+            assertThrows(IllegalArgumentException.class, () -> parser.parse("0 99 * * * /usr/bin/bad-hour"));
+            assertThrows(IllegalArgumentException.class, () -> parser.parse("0 0 * 13 * /usr/bin/bad-month"));
+            assertThrows(IllegalArgumentException.class, () -> parser.parse("0 0 * *"));
+
+            assertEquals(5, metrics.getParseLatency().getCount());
+            assertEquals(3, metrics.getParseFailureCount());
+            assertEquals(Map.of("hour", 1L, "month", 1L), metrics.getValidationFailures());
+            assertEquals(2, metrics.getFieldParseLatency("day of week").getCount());
+            assertEquals(0, metrics.getFieldParseLatency("seconds").getCount());
+        }
+        assertFalse(MetricsSink.noop().isEnabled());
+    }
+
+    @Test
+    public void testConcurrentParserReportsTasksAndRejections() throws Exception {
+        InMemoryMetricsSink metrics = new InMemoryMetricsSink();
+        ConcurrentCronParser parser = ConcurrentCronParser.builder().threads(2).chunkSize(10).metrics(metrics).build();
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inputs.add(i % 25 == 0 ? "0 0 32 * * /usr/bin/bad" : (i % 60) + " * * * * /usr/bin/job" + i);
+        }
+
+        BulkParseResult result = parser.parseAll(inputs).get(10, TimeUnit.SECONDS);
+        assertEquals(4, result.getFailures().size());
+        assertEquals("/usr/bin/job", parser.parseCronExpression("* * * * * /usr/bin/job").get().getCommand());
+        parser.shutdown();
+
+        assertEquals(101, metrics.getParseLatency().getCount());
+        assertEquals(Map.of("day of month", 4L), metrics.getValidationFailures());
+        assertEquals(11, metrics.getTaskRunTime().getCount());
+        assertEquals(11, metrics.getTaskWaitTime().getCount());
+        assertTrue(metrics.getMaxQueueDepth() >= 0);
+
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        ConcurrentCronParser rejecting = ConcurrentCronParser.builder().executor(closed).metrics(metrics).build();
+        assertThrows(RejectedExecutionException.class, () -> rejecting.parseCronExpression("* * * * * /usr/bin/job"));
+        assertEquals(1, metrics.getRejectionCount());
+    }
+}
@@ -0,0 +1,124 @@
+import org.example.cornparser.index.ScheduleIndex;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleIndexTest {
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testDueSetMatchesExecutionTimes() {
+        Random random = new Random(11);
+        String[] fields = {"*", "*/2", "1-5", "5", "*/7"};
+        List<CronExpression> expressions = new ArrayList<>();
+        ScheduleIndex index = new ScheduleIndex(16);  // Forces the postings to grow
+        for (int id = 0; id < 3_000; id++) {
+            String line = pick(random, fields, "*", "0,15,30,45", String.valueOf(random.nextInt(60))) + " "
+                    + pick(random, fields, "*", String.valueOf(random.nextInt(24))) + " "
+                    + pick(random, fields, "*", "1,15", "13") + " "
+                    + pick(random, fields, "*", "2", "1-6") + " "
+                    + pick(random, fields, "*", "0", "1-5", "5") + " /usr/bin/job" + id;
+            CronExpression expression = parser.parse(line);
+            expressions.add(expression);
+            index.add(id, expression);
+        }
+        for (int id = 0; id < 3_000; id += 7) {
+            assertTrue(index.remove(id));
+        }
+        assertFalse(index.remove(0));
+        assertEquals(3_000 - 429, index.size());
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int sample = 0; sample < 200; sample++) {
+            LocalDateTime time = start.plusMinutes(random.nextInt(366 * 24 * 60));
+            long epochMilli = time.toInstant(ZoneOffset.UTC).toEpochMilli();
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < expressions.size(); id++) {
+                if (id % 7 != 0 && expressions.get(id).nextExecution(epochMilli - 60_000, ZoneOffset.UTC) == epochMilli) {
+                    expected.add(id);
+                }
+            }
+            List<Integer> due = new ArrayList<>();
+            index.forEachDue(time, due::add);
+            assertEquals(expected, due, time.toString());
+        }
+    }
+
+    @Test
+    public void testDayOfMonthOrDayOfWeekRule() {
+        ScheduleIndex index = new ScheduleIndex();
+        index.add(1, parser.parse("0 0 13 * 5 /usr/bin/either"));   // 13th or Friday
+        index.add(2, parser.parse("0 0 13 * * /usr/bin/thirteenth"));
+        index.add(3, parser.parse("0 0 * * 5 /usr/bin/friday"));
+        index.add(70, parser.parse("0 0 * * * /usr/bin/daily"));
+
+        List<Integer> due = new ArrayList<>();
+        index.forEachDue(LocalDateTime.of(2024, 9, 13, 0, 0), due::add);  // Friday the 13th
+        assertEquals(List.of(1, 2, 3, 70), due);
+        due.clear();
+        index.forEachDue(LocalDateTime.of(2024, 9, 6, 0, 0), due::add);   // A Friday
+        assertEquals(List.of(1, 3, 70), due);
+        due.clear();
+        index.forEachDue(LocalDateTime.of(2024, 10, 13, 0, 0), due::add);  // A Sunday
+        assertEquals(List.of(1, 2, 70), due);
+
+        index.add(70, parser.parse("0 1 * * * /usr/bin/moved"));  // Re-adding replaces the old schedule
+        due.clear();
+        index.forEachDue(LocalDateTime.of(2024, 10, 14, 0, 0), due::add);
+        assertEquals(List.of(), due);
+        assertThrows(IllegalArgumentException.class, () -> index.forEachDue(0, 0, 0, 1, 0, id -> { }));
+    }
+
+    @Test
+    public void testQueriesDuringConcurrentWrites() throws Exception {
+        ScheduleIndex index = new ScheduleIndex(64);
+        CronExpression everyMinute = parser.parse("* * * * * /usr/bin/stable");
+        CronExpression never = parser.parse("0 0 1 1 * /usr/bin/churn");
+        for (int id = 0; id < 1_000; id += 2) {
+            index.add(id, everyMinute);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(3);
+            while (running.get()) {
+                int id = 1 + 2 * random.nextInt(50_000);  // Odd ids only, so the stable jobs are never touched
+                if (random.nextBoolean()) {
+                    index.add(id, never);
+                } else {
+                    index.remove(id);
+                }
+            }
+        });
+        writer.setUncaughtExceptionHandler((thread, error) -> failure.set(error));
+        writer.start();
+        try {
+            for (int query = 0; query < 500; query++) {
+                int[] count = new int[1];
+                index.forEachDue(30, 12, 15, 6, 3, id -> {
+                    assertEquals(0, id % 2);
+                    count[0]++;
+                });
+                assertEquals(500, count[0]);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        assertNull(failure.get());
+    }
+
+    private static String pick(Random random, String[] common, String... specific) {
+        return random.nextInt(3) == 0 ? common[random.nextInt(common.length)] : specific[random.nextInt(specific.length)];
+    }
+}
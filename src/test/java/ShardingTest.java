@@ -0,0 +1,201 @@
+import org.example.cornparser.cluster.Handoff;
+import org.example.cornparser.cluster.HashRing;
+import org.example.cornparser.cluster.InMemoryMembership;
+import org.example.cornparser.cluster.ShardNode;
+import org.example.cornparser.index.ScheduleIndex;
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardingTest {
+    private static final int JOBS = 20_000;
+
+    private final DefaultCronParser parser = new DefaultCronParser();
+
+    @Test
+    public void testRingBalancesAndMovesFewJobs() {
+        List<String> nodes = new ArrayList<>(List.of("node-a", "node-b", "node-c", "node-d"));
+        HashRing before = new HashRing(nodes);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int job = 0; job < 100_000; job++) {
+            counts.merge(before.ownerOf("job-" + job), 1, Integer::sum);
+        }
+        for (String node : nodes) {
+            assertEquals(25_000, counts.get(node), 1_500, node);
+        }
+
+        nodes.add("node-e");
+        HashRing after = new HashRing(nodes);
+        int moved = 0;
+        for (int job = 0; job < 100_000; job++) {
+            String owner = after.ownerOf("job-" + job);
+            if (!owner.equals(before.ownerOf("job-" + job))) {
+                assertEquals("node-e", owner);  // Jobs only move to the new node
+                moved++;
+            }
+        }
+        assertEquals(20_000, moved, 1_500);
+
+        assertNull(new HashRing(List.of()).ownerOf("job-1"));
+        assertEquals(before.ownerOf("job-1"), new HashRing(List.of("node-d", "node-c", "node-b", "node-a", "node-a"))
+                .ownerOf("job-1"));
+        assertThrows(IllegalArgumentException.class, () -> new HashRing(nodes, 0));
+    }
+
+    @Test
+    public void testNodesPartitionDueSetsAndHandOffOnMembershipChanges() {
+        InMemoryMembership membership = new InMemoryMembership();
+        Map<String, ShardNode> nodes = new HashMap<>();
+        List<Handoff> handoffs = new ArrayList<>();
+        ScheduleIndex everything = new ScheduleIndex();
+        for (String id : List.of("node-a", "node-b", "node-c")) {
+            membership.join(id);
+            nodes.put(id, newNode(id, membership, handoffs));
+        }
+        for (int job = 0; job < JOBS; job++) {
+            CronExpression expression = parser.parse((job % 60) + " * * * " + (job % 7) + " /usr/bin/job" + job);
+            everything.add(job, expression);
+            for (ShardNode node : nodes.values()) {
+                node.addJob("job-" + job, expression);
+            }
+        }
+        assertPartitioned(nodes.values());
+        assertDueSetsPartition(nodes.values(), everything);
+
+        // A joining node takes jobs from the others, and only jobs move to it.
+        Map<String, Set<String>> ownedBefore = owned(nodes.values());
+        handoffs.clear();
+        membership.join("node-d");
+        ShardNode joined = newNode("node-d", membership, handoffs);
+        for (int job = 0; job < JOBS; job++) {
+            joined.addJob("job-" + job, parser.parse((job % 60) + " * * * " + (job % 7) + " /usr/bin/job" + job));
+        }
+        nodes.put("node-d", joined);
+        assertPartitioned(nodes.values());
+        assertDueSetsPartition(nodes.values(), everything);
+        Set<String> released = new TreeSet<>();
+        for (Handoff handoff : handoffs) {
+            assertTrue(handoff.getAcquired().isEmpty(), handoff.getNodeId());
+            assertTrue(ownedBefore.get(handoff.getNodeId()).containsAll(handoff.getReleased()));
+            released.addAll(handoff.getReleased());
+        }
+        assertEquals(joined.getOwnedJobs(), released);
+        assertEquals(JOBS / 4.0, joined.getOwnedCount(), JOBS / 20.0);
+
+        // A leaving node's jobs are spread over the others, and nothing else moves.
+        handoffs.clear();
+        Set<String> orphaned = nodes.get("node-b").getOwnedJobs();
+        membership.leave("node-b");
+        nodes.remove("node-b").close();
+        Set<String> acquired = new TreeSet<>();
+        for (Handoff handoff : handoffs) {
+            if (handoff.getNodeId().equals("node-b")) {
+                assertEquals(orphaned, new TreeSet<>(handoff.getReleased()));  // The leaver gives up its shard
+                continue;
+            }
+            assertTrue(handoff.getReleased().isEmpty(), handoff.getNodeId());
+            acquired.addAll(handoff.getAcquired());
+        }
+        assertEquals(orphaned, acquired);
+        assertTrue(handoffs.size() > 2);
+        assertPartitioned(nodes.values());
+        assertDueSetsPartition(nodes.values(), everything);
+    }
+
+    @Test
+    public void testJobUpdatesFollowOwnership() {
+        InMemoryMembership membership = new InMemoryMembership();
+        ShardNode outsider = new ShardNode("node-x", membership);
+        outsider.addJob("job-1", parser.parse("* * * * * /usr/bin/a"));
+        assertEquals(0, outsider.getOwnedCount());
+
+        membership.join("node-x");
+        assertTrue(outsider.owns("job-1"));
+        assertEquals(Set.of("job-1"), outsider.getOwnedJobs());
+
+        outsider.addJob("job-1", parser.parse("0 0 1 1 * /usr/bin/a"));
+        List<String> due = new ArrayList<>();
+        outsider.forEachDue(LocalDateTime.of(2024, 6, 3, 9, 0), due::add);
+        assertTrue(due.isEmpty());
+
+        assertTrue(outsider.removeJob("job-1"));
+        assertFalse(outsider.removeJob("job-1"));
+        assertEquals(0, outsider.getOwnedCount());
+    }
+
+    @Test
+    public void testMembershipChangeRacingWithConstructionIsNotLost() throws InterruptedException {
+        Thread[] joiner = new Thread[1];
+        InMemoryMembership membership = new InMemoryMembership() {
+            @Override
+            public Set<String> getMembers() {
+                Set<String> members = super.getMembers();
+                if (joiner[0] == null) {  // Another node joins right after the read, notifying from its own thread
+                    joiner[0] = new Thread(() -> join("node-y"));
+                    joiner[0].start();
+                    while (!super.getMembers().contains("node-y")) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return members;
+            }
+        };
+        membership.join("node-x");
+
+        ShardNode node = new ShardNode("node-x", membership);
+        joiner[0].join();
+        HashRing ring = new HashRing(List.of("node-x", "node-y"));
+        for (int job = 0; job < 100; job++) {
+            assertEquals(ring.ownerOf("job-" + job).equals("node-x"), node.owns("job-" + job), "job-" + job);
+        }
+    }
+
+    private static ShardNode newNode(String id, InMemoryMembership membership, List<Handoff> handoffs) {
+        ShardNode node = new ShardNode(id, membership);
+        node.addHandoffListener(handoffs::add);
+        return node;
+    }
+
+    private static Map<String, Set<String>> owned(Iterable<ShardNode> nodes) {
+        Map<String, Set<String>> owned = new HashMap<>();
+        for (ShardNode node : nodes) {
+            owned.put(node.getNodeId(), node.getOwnedJobs());
+        }
+        return owned;
+    }
+
+    private static void assertPartitioned(Iterable<ShardNode> nodes) {
+        Set<String> all = new HashSet<>();
+        int total = 0;
+        for (ShardNode node : nodes) {
+            all.addAll(node.getOwnedJobs());
+            total += node.getOwnedCount();
+        }
+        assertEquals(JOBS, total);
+        assertEquals(JOBS, all.size());
+    }
+
+    private static void assertDueSetsPartition(Iterable<ShardNode> nodes, ScheduleIndex everything) {
+        LocalDateTime minute = LocalDateTime.of(2024, 6, 3, 9, 15);  // A Monday
+        Set<String> expected = new TreeSet<>();
+        everything.forEachDue(minute, job -> expected.add("job-" + job));
+        List<String> due = new ArrayList<>();
+        for (ShardNode node : nodes) {
+            node.forEachDue(minute, due::add);
+        }
+        assertEquals(expected.size(), due.size());
+        assertEquals(expected, new TreeSet<>(due));
+        assertFalse(expected.isEmpty());
+    }
+}
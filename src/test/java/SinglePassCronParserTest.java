@@ -0,0 +1,77 @@
+import org.example.cornparser.model.CronExpression;
+import org.example.cornparser.parser.DefaultCronParser;
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SinglePassCronParserTest {
+    private final SinglePassCronParser parser = new SinglePassCronParser();
+    private final DefaultCronParser reference = new DefaultCronParser();
+
+    @Test
+    public void testParseSimpleCron() {
+        CronExpression expression = parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find");
+
+        assertEquals(reference.parse("*/15 0 1,15 * 1-5 /usr/bin/find"), expression);
+        assertEquals("/usr/bin/find", expression.getCommand());
+    }
+
+    @Test
+    public void testParseRangeInsideLargerBuffer() {
+        StringBuilder buffer = new StringBuilder("# header\n0 12 * * 1 /usr/bin/report\n# footer");
+        int start = buffer.indexOf("\n") + 1;
+        int end = buffer.indexOf("\n", start);
+
+        assertEquals(reference.parse("0 12 * * 1 /usr/bin/report"), parser.parse(buffer, start, end));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "* * * * * cmd", "*/15 0 1,15 * 1-5 cmd", "1-5- * * * * cmd", "*/5// * * * * cmd", "5/10/ * * * * cmd",
+            "1,2,, * * * * cmd", ", * * * * cmd", ",,, * * * * cmd", "+5 * * * * cmd", "+1-+5 * * * * cmd",
+            "0000000005 * * * * cmd", "*/+5 * * * * cmd", "0 0 * * 0/7 cmd", "0 0 * * */7 cmd", "\u0001* * * * * cmd",
+            "* * * * * \u0001cmd", "٣ * * * * cmd", "-1 0 1 * * cmd", "0 24 1 * * cmd", "0 0 32 * * cmd",
+            "0 0 1 13 * cmd", "0 0 1 * 7 cmd", "1-10/2 * * * * cmd", "1-5,10 * * * * cmd", ",1 * * * * cmd",
+            "1,,2 * * * * cmd", "*/60 * * * * cmd", "*/0 * * * * cmd", "5-1 * * * * cmd", "1- * * * * cmd",
+            "1--5 * * * * cmd", "*/ * * * * cmd", "*//5 * * * * cmd", "5/10/3 * * * * cmd", "1-5-3 * * * * cmd",
+            "** * * * * cmd", "*, * * * * cmd", "*-5 * * * * cmd", "5+ * * * * cmd", "99999999999 * * * * cmd",
+            "0 0 * * 7/1 cmd", "* * * * *", "* * * * * cmd extra", "", "   ", "*\u001C * * * * cmd",
+            "*\t*\n*\u000B*\f*\rcmd", "1,2/3 * * * * cmd", "1,2-3 * * * * cmd", "1-5, * * * * cmd"
+    })
+    public void testAcceptsExactlyWhatDefaultParserAccepts(String input) {
+        assertSameOutcome(input);
+    }
+
+    @Test
+    public void testRandomInputsMatchDefaultParser() {
+        String alphabet = "0123456789*/-,+ \t7";
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder fields = new StringBuilder();
+            for (int field = 0; field < 5; field++) {
+                int length = 1 + random.nextInt(6);
+                for (int c = 0; c < length; c++) {
+                    fields.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                fields.append(' ');
+            }
+            assertSameOutcome(fields.append("/usr/bin/job").toString());
+        }
+    }
+
+    private void assertSameOutcome(String input) {
+        CronExpression expected;
+        try {
+            expected = reference.parse(input);
+        } catch (IllegalArgumentException e) {
+            assertThrows(IllegalArgumentException.class, () -> parser.parse(input), "should reject: " + input);
+            return;
+        }
+        assertEquals(expected, parser.parse(input), "should accept: " + input);
+    }
+}
@@ -0,0 +1,113 @@
+import org.example.cornparser.parser.SinglePassCronParser;
+import org.example.cornparser.validation.ErrorCode;
+import org.example.cornparser.validation.ParseResult;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TryParseTest {
+    private final SinglePassCronParser parser = new SinglePassCronParser();
+
+    @Test
+    public void testValidInput() {
+        ParseResult result = parser.tryParse("*/15 0 1,15 * 1-5 /usr/bin/find");
+
+        assertTrue(result.isValid());
+        assertEquals(parser.parse("*/15 0 1,15 * 1-5 /usr/bin/find"), result.getExpression());
+        assertNull(result.getErrorCode());
+        assertSame(ParseResult.VALID, parser.validate("*/15 0 1,15 * 1-5 /usr/bin/find"));
+        assertSame(ParseResult.VALID, parser.validate("H H(9-17) * * * /usr/bin/backup"));
+    }
+
+    @Test
+    public void testHashKeySpreadsLikeKeyedParse() {
+        String line = "H H(9-17) H * * /usr/bin/backup";
+        for (int tenant = 0; tenant < 100; tenant++) {
+            String key = "tenant-" + tenant;
+            ParseResult result = parser.tryParse(line, key);
+
+            assertTrue(result.isValid());
+            assertEquals(parser.parse(line, key), result.getExpression());
+        }
+        assertEquals(parser.tryParse(line), parser.tryParse(line, null));
+        assertEquals(ErrorCode.INVALID_HASH_RANGE, parser.tryParse("H(1-5 * * * * cmd", "key").getErrorCode());
+    }
+
+    @Test
+    public void testErrorCodeFieldAndOffset() {
+        assertFailure("*/0 * * * * cmd", ErrorCode.STEP_OUT_OF_RANGE, "minute", 2);
+        assertFailure("0 24 * * * cmd", ErrorCode.VALUE_OUT_OF_RANGE, "hour", 2);
+        assertFailure("0 0 5-1 * * cmd", ErrorCode.INVALID_RANGE, "day of month", 4);
+        assertFailure("0 0 1-x * * cmd", ErrorCode.INVALID_RANGE_END, "day of month", 6);
+        assertFailure("0 0 * 1,,2 * cmd", ErrorCode.EMPTY_LIST_ELEMENT, "month", 9);
+        assertFailure("0 0 * * MON cmd", ErrorCode.INVALID_NUMBER, "day of week", 8);
+        assertFailure("H(1-5 * * * * cmd", ErrorCode.INVALID_HASH_RANGE, "minute", 5);
+        assertFailure("0 0 * * *", ErrorCode.FIELD_COUNT, null, 9);
+        assertFailure("0 0 * * * cmd extra", ErrorCode.FIELD_COUNT, null, 14);
+
+        ParseResult inBuffer = parser.tryParse("# header\n0 0 * * 9 cmd\n", 9, 22);
+        assertEquals(ErrorCode.VALUE_OUT_OF_RANGE, inBuffer.getErrorCode());
+        assertEquals(17, inBuffer.getOffset());
+    }
+
+    @Test
+    public void testAgreesWithThrowingParse() {
+        String alphabet = "0123456789*/-,+H() \t";
+        Random random = new Random(16);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder input = new StringBuilder();
+            int fields = 4 + random.nextInt(4);
+            for (int field = 0; field < fields; field++) {
+                int length = 1 + random.nextInt(5);
+                for (int c = 0; c < length; c++) {
+                    input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                input.append(' ');
+            }
+            String line = input.toString();
+            ParseResult result = parser.tryParse(line);
+            assertEquals(result.isValid(), parser.validate(line).isValid(), line);
+            try {
+                assertEquals(parser.parse(line), result.getExpression(), line);
+            } catch (IllegalArgumentException e) {
+                assertFalse(result.isValid(), line);
+                if (result.getErrorCode() != ErrorCode.FIELD_COUNT) {
+                    assertTrue(e.getMessage().startsWith("Invalid " + result.getFieldName() + " field at offset "
+                            + result.getOffset() + " (" + result.getErrorCode().getDescription() + ")"), line);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testValidateDoesNotAllocate() {
+        String[] lines = {"*/15 0 1,15 * 1-5 /usr/bin/find", "H H(9-17) * * 1-5 /usr/bin/backup",
+                "0,10,20 */2 1-15 1/3 * /usr/bin/report"};
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (String line : lines) {
+            parser.validate(line);
+        }
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        int valid = 0;
+        for (int i = 0; i < 100_000; i++) {
+            valid += parser.validate(lines[i % lines.length]).isValid() ? 1 : 0;
+        }
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        assertEquals(100_000, valid);
+        assertTrue(allocated < 1_024, () -> "Allocated " + allocated + " bytes");
+    }
+
+    private void assertFailure(String input, ErrorCode errorCode, String fieldName, int offset) {
+        for (ParseResult result : new ParseResult[]{parser.tryParse(input), parser.validate(input)}) {
+            assertFalse(result.isValid(), input);
+            assertNull(result.getExpression(), input);
+            assertEquals(errorCode, result.getErrorCode(), input);
+            assertEquals(fieldName, result.getFieldName(), input);
+            assertEquals(offset, result.getOffset(), input);
+        }
+    }
+}